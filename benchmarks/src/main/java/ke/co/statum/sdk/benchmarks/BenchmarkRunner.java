@@ -0,0 +1,40 @@
+package ke.co.statum.sdk.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler always attached, so every result
+ * includes its allocation rate ({@code gc.alloc.rate.norm}, bytes per
+ * operation).
+ *
+ * <p>
+ * Accepts the usual JMH command line, e.g. {@code java -jar
+ * target/benchmarks.jar UrlBuilding -f 1}.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(parse(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    private static Options parse(String[] args) throws RunnerException {
+        try {
+            return new CommandLineOptions(args);
+        } catch (Exception e) {
+            throw new RunnerException("Invalid JMH options: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HttpClientProvider.handleError} turning a 422 body into a
+ * {@link ValidationException}, for both body shapes the API returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorHandlingBenchmark {
+
+    private static final Map<String, String> BODIES = Map.of(
+            "nested", "{\"status_code\":422,\"description\":\"Validation failed\",\"validation_errors\":"
+                    + "{\"phone_number\":[\"The phone number format is invalid.\"],"
+                    + "\"amount\":[\"The amount must be at least 5.\"]}}",
+            "root", "{\"status_code\":422,\"description\":\"Validation failed\","
+                    + "\"phone_number\":[\"The phone number format is invalid.\"],\"sender_id\":[\"Unknown sender.\"]}");
+
+    @Param({ "nested", "root" })
+    public String shape;
+
+    private HttpClientProvider provider;
+    private HttpResponse<String> response;
+
+    @Setup
+    public void setUp() {
+        provider = new HttpClientProvider(StatumConfig.builder("benchKey", "benchSecret").build());
+        response = new StubResponse(422, BODIES.get(shape));
+    }
+
+    @Benchmark
+    public ValidationException parseValidationErrors() {
+        try {
+            provider.handleError(response, response.body());
+            throw new IllegalStateException("Expected a ValidationException");
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    private record StubResponse(int statusCode, String body) implements HttpResponse<String> {
+        private static final HttpHeaders NO_HEADERS = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+        @Override
+        public HttpRequest request() {
+            return null;
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return NO_HEADERS;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return URI.create("https://api.statum.co.ke/api/v2/sms");
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_2;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ke.co.statum.sdk.http;
+
+import com.sun.net.httpserver.HttpServer;
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.model.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link HttpClientProvider#post} round trip against a stub server on the
+ * loopback interface: serialization, request building, the JDK client, status
+ * handling and deserialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPathBenchmark {
+
+    private static final byte[] RESPONSE = ("{\"status_code\":200,\"description\":\"Operation successful.\","
+            + "\"request_id\":\"3aff1ca2-1c4b-4a7a-9c8b-6ef6c1b3a2f1\"}").getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private HttpClientProvider provider;
+    private Map<String, String> body;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        // Without this the stub's Nagle delay (~40ms) dominates every round trip.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/v2";
+        provider = new HttpClientProvider(StatumConfig.builder("benchKey", "benchSecret")
+                .baseUrl(baseUrl)
+                .idempotencyWindow(Duration.ZERO)
+                // The stub speaks plain HTTP/1.1; skip the h2c upgrade attempt.
+                .httpVersion(HttpClient.Version.HTTP_1_1)
+                .build());
+        body = Map.of(
+                "phone_number", "254712345678",
+                "sender_id", "STATUM",
+                "message", "Your verification code is 482913. It expires in 10 minutes.");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ApiResponse postSms() {
+        return provider.post("/sms", body, ApiResponse.class);
+    }
+}
@@ -0,0 +1,43 @@
+package ke.co.statum.sdk.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ke.co.statum.sdk.model.SmsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request body serialization: the SDK's {@link JsonBodyWriter} against plain
+ * Jackson databind on the same record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SmsRequest request = new SmsRequest("254712345678", "STATUM",
+            "Your verification code is 482913. It expires in 10 minutes.");
+
+    @Benchmark
+    public byte[] jsonBodyWriter() {
+        return JsonBodyWriter.write(request);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+}
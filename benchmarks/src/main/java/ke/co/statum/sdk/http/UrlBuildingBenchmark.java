@@ -0,0 +1,64 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving an endpoint's request target. {@code buildUrl} plus
+ * {@code URI.create} used to run for every request; {@code template} is what
+ * the request path does now, a map lookup for known endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBuildingBenchmark {
+
+    private HttpClientProvider provider;
+
+    @Setup
+    public void setUp() {
+        provider = new HttpClientProvider(StatumConfig.builder("benchKey", "benchSecret")
+                .baseUrl("https://api.statum.co.ke/api/v2/")
+                .build());
+    }
+
+    @Benchmark
+    public String endpointWithSlash() {
+        return provider.buildUrl("/sms");
+    }
+
+    @Benchmark
+    public String endpointWithoutSlash() {
+        return provider.buildUrl("account-details");
+    }
+
+    @Benchmark
+    public URI parseUri() {
+        return URI.create(provider.buildUrl("/sms"));
+    }
+
+    @Benchmark
+    public RequestTemplate knownTemplate() {
+        return provider.template("/sms");
+    }
+
+    @Benchmark
+    public RequestTemplate knownTemplateWithoutSlash() {
+        return provider.template("account-details");
+    }
+}
@@ -0,0 +1,79 @@
+package ke.co.statum.sdk.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input validation run before every send: phone number validation and
+ * normalization, single and over a contact list, and parsing the airtime
+ * amount into cents and range-checking it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    // Validation never touches the HTTP layer.
+    private static final AirtimeService SERVICE = new AirtimeService(null);
+
+    @State(Scope.Benchmark)
+    public static class Recipients {
+        @Param({ "+254712345678", "254712345678", "0712345678" })
+        public String phoneNumber;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ContactList {
+        public final String[] numbers = new String[10_000];
+        public final boolean[] valid = new boolean[numbers.length];
+
+        @Setup
+        public void setUp() {
+            String[] prefixes = { "+2547", "2541", "07", "06" };
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = prefixes[i % prefixes.length] + String.format("%08d", i);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Amounts {
+        @Param({ "100", "9999.99" })
+        public String amount;
+    }
+
+    @Benchmark
+    public boolean validatePhoneNumber(Recipients input) {
+        return PhoneNumbers.isValid(input.phoneNumber);
+    }
+
+    @Benchmark
+    public String normalizePhoneNumber(Recipients input) {
+        return PhoneNumbers.normalize(input.phoneNumber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10_000)
+    public int validateContactList(ContactList input) {
+        return PhoneNumbers.validate(input.numbers, input.valid);
+    }
+
+    @Benchmark
+    public long validateAmount(Amounts input) {
+        return SERVICE.validateAmount(input.amount);
+    }
+}
@@ -1,12 +1,16 @@
 package ke.co.statum.sdk;
 
 import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.ApiException;
 import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.resilience.RetryStats;
 import ke.co.statum.sdk.services.AccountService;
 import ke.co.statum.sdk.services.AirtimeService;
 import ke.co.statum.sdk.services.SmsService;
 
+import java.net.http.HttpClient;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main entry point for the Statum SDK.
@@ -80,14 +84,33 @@ import java.util.Objects;
  */
 public class StatumClient {
 
+    private final HttpClientProvider httpClient;
     private final AirtimeService airtimeService;
     private final SmsService smsService;
     private final AccountService accountService;
 
     public StatumClient(StatumConfig config) {
-        Objects.requireNonNull(config, "Config must not be null");
-        HttpClientProvider httpClient = new HttpClientProvider(config);
+        this(new HttpClientProvider(Objects.requireNonNull(config, "Config must not be null")));
 
+        if (config.isWarmUpOnStart()) {
+            try {
+                httpClient.warmUp(1);
+            } catch (ApiException ignored) {
+                // Best effort: the first real call reports connectivity problems.
+            }
+        }
+    }
+
+    /**
+     * Creates a client that sends through an existing {@link HttpClient}, as
+     * {@link StatumClientPool} does for its tenants. No warm-up is performed.
+     */
+    StatumClient(StatumConfig config, HttpClient transport) {
+        this(new HttpClientProvider(config, transport));
+    }
+
+    private StatumClient(HttpClientProvider httpClient) {
+        this.httpClient = httpClient;
         this.airtimeService = new AirtimeService(httpClient);
         this.smsService = new SmsService(httpClient);
         this.accountService = new AccountService(httpClient);
@@ -104,4 +127,41 @@ public class StatumClient {
     public AccountService getAccountService() {
         return accountService;
     }
+
+    /**
+     * Counters describing how often requests made by this client were retried
+     * and how much latency the retries added.
+     */
+    public RetryStats getRetryStats() {
+        return httpClient.getRetryStats();
+    }
+
+    /**
+     * Opens the connection to the API ahead of traffic so that the first calls
+     * do not pay for the TLS handshake. Call once after construction, e.g.
+     * before marking a service instance ready.
+     *
+     * @return the negotiated HTTP version
+     * @throws ke.co.statum.sdk.exceptions.NetworkException if the API could not
+     *                                                      be reached
+     */
+    public HttpClient.Version warmUp() {
+        return httpClient.warmUp(1);
+    }
+
+    /**
+     * Like {@link #warmUp()}, but opens up to {@code connections} connections
+     * when the server only speaks HTTP/1.1. With HTTP/2 a single multiplexed
+     * connection is used regardless.
+     */
+    public HttpClient.Version warmUp(int connections) {
+        return httpClient.warmUp(connections);
+    }
+
+    /**
+     * Non-blocking variant of {@link #warmUp()}.
+     */
+    public CompletableFuture<HttpClient.Version> warmUpAsync() {
+        return httpClient.warmUpAsync(1);
+    }
 }
@@ -0,0 +1,171 @@
+package ke.co.statum.sdk;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.http.HttpClientProvider;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link StatumClient}s for many tenants, each with its own credentials, that
+ * share one HTTP transport.
+ *
+ * <p>
+ * Every tenant client sends through the same {@link HttpClient}, and so shares
+ * its connection pool, selector thread and executor, as well as the SDK's JSON
+ * mapper. Per tenant only the client itself is kept: its pre-computed
+ * {@code Authorization} header and per-endpoint request templates, circuit
+ * breakers, retry counters and idempotency cache. Sockets and threads
+ * therefore stay flat as tenants are added.
+ * </p>
+ *
+ * <pre>{@code
+ * StatumClientPool pool = new StatumClientPool(StatumConfig.builder("", "")
+ *         .virtualThreads(true)
+ *         .build(), Duration.ofMinutes(30));
+ *
+ * pool.getClient(merchant.consumerKey(), merchant.consumerSecret())
+ *         .getSmsService()
+ *         .sendSms("254712345678", "SENDER", "Hello!");
+ * }</pre>
+ *
+ * <p>
+ * All settings other than the credentials come from the pool's configuration,
+ * whose own consumer key and secret are never used. The rate limiter and
+ * metrics instances in it are shared by all tenants. Tenants not used for the
+ * idle timeout are evicted lazily on later calls; a caller still holding an
+ * evicted client can keep using it.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class StatumClientPool {
+
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final StatumConfig config;
+    private final HttpClient transport;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    public StatumClientPool(StatumConfig config) {
+        this(config, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param config      settings shared by every tenant; its credentials are
+     *                    ignored
+     * @param idleTimeout how long a tenant client is kept after its last use
+     */
+    public StatumClientPool(StatumConfig config, Duration idleTimeout) {
+        this(config, idleTimeout, HttpClientProvider.newHttpClient(Objects.requireNonNull(config,
+                "Config must not be null")), System::nanoTime);
+        if (config.isWarmUpOnStart()) {
+            try {
+                warmUp(1);
+            } catch (ApiException ignored) {
+                // Best effort: the first real call reports connectivity problems.
+            }
+        }
+    }
+
+    StatumClientPool(StatumConfig config, Duration idleTimeout, HttpClient transport, LongSupplier nanoClock) {
+        Objects.requireNonNull(idleTimeout, "Idle timeout must not be null");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        this.config = config;
+        this.transport = transport;
+        this.idleNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong() + idleNanos);
+    }
+
+    /**
+     * Returns the client for the tenant identified by {@code consumerKey},
+     * creating it on first use. If the tenant's secret has changed since its
+     * client was created, a new client replaces the old one.
+     */
+    public StatumClient getClient(String consumerKey, String consumerSecret) {
+        Objects.requireNonNull(consumerKey, "Consumer Key must not be null");
+        Objects.requireNonNull(consumerSecret, "Consumer Secret must not be null");
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+
+        Tenant tenant = tenants.get(consumerKey);
+        if (tenant == null || !tenant.consumerSecret.equals(consumerSecret)) {
+            tenant = tenants.compute(consumerKey, (key, existing) -> existing != null
+                    && existing.consumerSecret.equals(consumerSecret)
+                            ? existing
+                            : new Tenant(new StatumClient(config.withCredentials(key, consumerSecret), transport),
+                                    consumerSecret, now));
+        }
+        tenant.lastUsed = now;
+        return tenant.client;
+    }
+
+    /**
+     * Drops the client of one tenant, e.g. after its credentials were revoked.
+     *
+     * @return {@code true} if the tenant had a client
+     */
+    public boolean evict(String consumerKey) {
+        return tenants.remove(consumerKey) != null;
+    }
+
+    /**
+     * Drops every tenant client that has not been used for the idle timeout.
+     * This also happens automatically, at most once per idle timeout, during
+     * {@link #getClient(String, String)}.
+     */
+    public void evictIdle() {
+        evictIdle(nanoClock.getAsLong());
+    }
+
+    private void evictIdle(long now) {
+        tenants.values().removeIf(tenant -> now - tenant.lastUsed >= idleNanos);
+    }
+
+    /**
+     * Number of tenant clients currently held.
+     */
+    public int size() {
+        return tenants.size();
+    }
+
+    /**
+     * Opens the shared connection to the API ahead of traffic. See
+     * {@link StatumClient#warmUp(int)}.
+     */
+    public HttpClient.Version warmUp(int connections) {
+        return new HttpClientProvider(config, transport).warmUp(connections);
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + idleNanos)) {
+            return;
+        }
+        evictIdle(now);
+    }
+
+    private static final class Tenant {
+        private final StatumClient client;
+        private final String consumerSecret;
+        private volatile long lastUsed;
+
+        Tenant(StatumClient client, String consumerSecret, long lastUsed) {
+            this.client = client;
+            this.consumerSecret = consumerSecret;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
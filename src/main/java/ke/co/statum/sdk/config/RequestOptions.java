@@ -0,0 +1,114 @@
+package ke.co.statum.sdk.config;
+
+import java.time.Duration;
+
+/**
+ * Per-call options that override or extend {@link StatumConfig} for a single
+ * request.
+ *
+ * <p>
+ * Instances are immutable; the {@code with*} methods return modified copies.
+ * </p>
+ *
+ * <pre>{@code
+ * // Reuse the same key when re-submitting the same logical payment
+ * RequestOptions options = RequestOptions.defaults()
+ *         .withIdempotencyKey("payroll-2026-10-employee-42");
+ *
+ * client.getAirtimeService().sendAirtime("254712345678", "100", options);
+ *
+ * // Tighter budget for one latency-sensitive call
+ * client.getAccountService().getAccountDetails(RequestOptions.defaults()
+ *         .withResponseTimeout(Duration.ofSeconds(1))
+ *         .withDeadline(Duration.ofSeconds(3)));
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class RequestOptions {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final RequestOptions DEFAULTS = new RequestOptions(null, null, null);
+
+    private final String idempotencyKey;
+    private final Duration responseTimeout;
+    private final Duration deadline;
+
+    private RequestOptions(String idempotencyKey, Duration responseTimeout, Duration deadline) {
+        this.idempotencyKey = idempotencyKey;
+        this.responseTimeout = responseTimeout;
+        this.deadline = deadline;
+    }
+
+    public static RequestOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Identifies one logical send. The key is sent as the
+     * {@code Idempotency-Key} header and reused across retries, and a repeated
+     * submission with the same key inside the configured
+     * {@linkplain StatumConfig#getIdempotencyWindow() idempotency window} returns
+     * the original result instead of sending again.
+     *
+     * <p>
+     * When no key is given the SDK generates a fresh one for every call.
+     * </p>
+     */
+    public RequestOptions withIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null
+                && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException(
+                    "Idempotency key must be non-blank and at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return new RequestOptions(idempotencyKey, responseTimeout, deadline);
+    }
+
+    /**
+     * Overrides the configured {@linkplain StatumConfig#getResponseTimeout()
+     * response timeout} for each attempt of this call. {@code null} restores the
+     * configured value.
+     */
+    public RequestOptions withResponseTimeout(Duration responseTimeout) {
+        return new RequestOptions(idempotencyKey, positiveOrNull(responseTimeout, "Response timeout"), deadline);
+    }
+
+    /**
+     * Overrides the configured {@linkplain StatumConfig#getRequestDeadline()
+     * request deadline} for this call. The deadline starts when the call is made
+     * and covers rate-limit and concurrency-limit waits, retries and backoff. {@code null} restores the
+     * configured value.
+     */
+    public RequestOptions withDeadline(Duration deadline) {
+        return new RequestOptions(idempotencyKey, responseTimeout, positiveOrNull(deadline, "Deadline"));
+    }
+
+    /**
+     * The caller-supplied idempotency key, or {@code null} if the SDK should
+     * generate one.
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * The per-attempt response timeout override, or {@code null}.
+     */
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * The total deadline override, or {@code null}.
+     */
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    private static Duration positiveOrNull(Duration duration, String name) {
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
+    }
+}
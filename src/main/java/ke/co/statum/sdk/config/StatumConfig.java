@@ -1,7 +1,18 @@
 package ke.co.statum.sdk.config;
 
+import ke.co.statum.sdk.metrics.StatumMetrics;
+import ke.co.statum.sdk.resilience.CircuitBreakerConfig;
+import ke.co.statum.sdk.resilience.CircuitBreakerListener;
+import ke.co.statum.sdk.resilience.ConcurrencyLimitConfig;
+import ke.co.statum.sdk.resilience.RateLimiter;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration for the Statum SDK.
@@ -29,6 +40,34 @@ import java.util.Objects;
  *         "https://api.statum.co.ke/api/v2",
  *         Duration.ofSeconds(60));
  * }</pre>
+ *
+ * <p>
+ * Traffic-control options are set through the builder:
+ * </p>
+ *
+ * <pre>{@code
+ * StatumConfig config = StatumConfig.builder("consumerKey", "consumerSecret")
+ *         .timeout(Duration.ofSeconds(10))
+ *         .responseTimeout(Duration.ofSeconds(20))
+ *         .endpointResponseTimeout("/account-details", Duration.ofSeconds(2))
+ *         .requestDeadline(Duration.ofSeconds(45))
+ *         .rateLimiter(TokenBucketRateLimiter.builder()
+ *                 .limit("/sms", 50, 100)
+ *                 .build())
+ *         .build();
+ * }</pre>
+ *
+ * <p>
+ * For very high concurrency, run the HTTP client on virtual threads (JDK 21+)
+ * or on an executor of your own:
+ * </p>
+ *
+ * <pre>{@code
+ * StatumConfig config = StatumConfig.builder("consumerKey", "consumerSecret")
+ *         .virtualThreads(true)
+ *         .httpVersion(HttpClient.Version.HTTP_2)
+ *         .build();
+ * }</pre>
  * 
  * <h2>Security Best Practices</h2>
  * <ul>
@@ -50,21 +89,112 @@ import java.util.Objects;
 public class StatumConfig {
     private static final String DEFAULT_BASE_URL = "https://api.statum.co.ke/api/v2";
     private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_IDEMPOTENCY_WINDOW = Duration.ofMinutes(10);
 
     private final String consumerKey;
     private final String consumerSecret;
     private final String baseUrl;
     private final Duration timeout;
+    private final Duration responseTimeout;
+    private final Map<String, Duration> endpointResponseTimeouts;
+    private final Duration requestDeadline;
+    private final RateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final RetryPolicy postRetryPolicy;
+    private final Duration idempotencyWindow;
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final CircuitBreakerListener circuitBreakerListener;
+    private final ConcurrencyLimitConfig concurrencyLimitConfig;
+    private final Executor executor;
+    private final boolean virtualThreads;
+    private final HttpClient.Version httpVersion;
+    private final boolean warmUpOnStart;
+    private final StatumMetrics metrics;
 
     public StatumConfig(String consumerKey, String consumerSecret) {
         this(consumerKey, consumerSecret, DEFAULT_BASE_URL, DEFAULT_TIMEOUT);
     }
 
     public StatumConfig(String consumerKey, String consumerSecret, String baseUrl, Duration timeout) {
+        this(builder(consumerKey, consumerSecret).baseUrl(baseUrl).timeout(timeout));
+    }
+
+    private StatumConfig(Builder builder) {
+        this.consumerKey = Objects.requireNonNull(builder.consumerKey, "Consumer Key must not be null");
+        this.consumerSecret = Objects.requireNonNull(builder.consumerSecret, "Consumer Secret must not be null");
+        this.baseUrl = Objects.requireNonNull(builder.baseUrl, "Base URL must not be null");
+        this.timeout = requirePositive(builder.timeout, "Timeout");
+        this.responseTimeout = builder.responseTimeout != null
+                ? requirePositive(builder.responseTimeout, "Response timeout")
+                : timeout;
+        this.endpointResponseTimeouts = Map.copyOf(builder.endpointResponseTimeouts);
+        this.requestDeadline = builder.requestDeadline != null
+                ? requirePositive(builder.requestDeadline, "Request deadline")
+                : null;
+        this.rateLimiter = Objects.requireNonNull(builder.rateLimiter, "Rate limiter must not be null");
+        this.retryPolicy = Objects.requireNonNull(builder.retryPolicy, "Retry policy must not be null");
+        this.postRetryPolicy = Objects.requireNonNull(builder.postRetryPolicy, "POST retry policy must not be null");
+        this.idempotencyWindow = Objects.requireNonNull(builder.idempotencyWindow,
+                "Idempotency window must not be null");
+        if (idempotencyWindow.isNegative()) {
+            throw new IllegalArgumentException("Idempotency window must not be negative");
+        }
+        this.circuitBreakerConfig = Objects.requireNonNull(builder.circuitBreakerConfig,
+                "Circuit breaker config must not be null");
+        this.circuitBreakerListener = builder.circuitBreakerListener;
+        this.concurrencyLimitConfig = Objects.requireNonNull(builder.concurrencyLimitConfig,
+                "Concurrency limit config must not be null");
+        if (builder.executor != null && builder.virtualThreads) {
+            throw new IllegalArgumentException("Set either an executor or virtual threads, not both");
+        }
+        this.executor = builder.executor;
+        this.virtualThreads = builder.virtualThreads;
+        this.httpVersion = Objects.requireNonNull(builder.httpVersion, "HTTP version must not be null");
+        this.warmUpOnStart = builder.warmUpOnStart;
+        this.metrics = Objects.requireNonNull(builder.metrics, "Metrics must not be null");
+    }
+
+    private StatumConfig(StatumConfig template, String consumerKey, String consumerSecret) {
         this.consumerKey = Objects.requireNonNull(consumerKey, "Consumer Key must not be null");
         this.consumerSecret = Objects.requireNonNull(consumerSecret, "Consumer Secret must not be null");
-        this.baseUrl = Objects.requireNonNull(baseUrl, "Base URL must not be null");
-        this.timeout = Objects.requireNonNull(timeout, "Timeout must not be null");
+        this.baseUrl = template.baseUrl;
+        this.timeout = template.timeout;
+        this.responseTimeout = template.responseTimeout;
+        this.endpointResponseTimeouts = template.endpointResponseTimeouts;
+        this.requestDeadline = template.requestDeadline;
+        this.rateLimiter = template.rateLimiter;
+        this.retryPolicy = template.retryPolicy;
+        this.postRetryPolicy = template.postRetryPolicy;
+        this.idempotencyWindow = template.idempotencyWindow;
+        this.circuitBreakerConfig = template.circuitBreakerConfig;
+        this.circuitBreakerListener = template.circuitBreakerListener;
+        this.concurrencyLimitConfig = template.concurrencyLimitConfig;
+        this.executor = template.executor;
+        this.virtualThreads = template.virtualThreads;
+        this.httpVersion = template.httpVersion;
+        this.warmUpOnStart = template.warmUpOnStart;
+        this.metrics = template.metrics;
+    }
+
+    public static Builder builder(String consumerKey, String consumerSecret) {
+        return new Builder(consumerKey, consumerSecret);
+    }
+
+    /**
+     * Returns a copy of this configuration that authenticates with different
+     * credentials. Every other setting, including the rate limiter and metrics
+     * instances, is shared with this one.
+     */
+    public StatumConfig withCredentials(String consumerKey, String consumerSecret) {
+        return new StatumConfig(this, consumerKey, consumerSecret);
+    }
+
+    private static Duration requirePositive(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " must not be null");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
     }
 
     public String getConsumerKey() {
@@ -79,7 +209,318 @@ public class StatumConfig {
         return baseUrl;
     }
 
+    /**
+     * Timeout for establishing a connection.
+     */
     public Duration getTimeout() {
         return timeout;
     }
+
+    /**
+     * How long a single attempt may wait for the response after the request is
+     * sent. Defaults to {@link #getTimeout()}.
+     */
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * Response timeouts that replace {@link #getResponseTimeout()} for specific
+     * endpoints, keyed by path such as {@code "/account-details"}.
+     */
+    public Map<String, Duration> getEndpointResponseTimeouts() {
+        return endpointResponseTimeouts;
+    }
+
+    /**
+     * Upper bound on the total time of a call, covering rate-limit and
+     * concurrency-limit waits, every attempt and the backoff between them, or
+     * {@code null} for no bound. A custom {@link RateLimiter} that does not
+     * override {@link RateLimiter#tryAcquire(String, long)} is waited for in
+     * full, and the call then fails if the deadline has passed.
+     */
+    public Duration getRequestDeadline() {
+        return requestDeadline;
+    }
+
+    /**
+     * Rate limiter applied to every request. Defaults to
+     * {@link RateLimiter#unlimited()}.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Retry policy for idempotent requests such as {@code GET}. Defaults to
+     * {@link RetryPolicy#defaults()}.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Retry policy for {@code POST} requests, which send SMS or airtime and are
+     * therefore not safe to repeat blindly. Defaults to {@link RetryPolicy#none()}.
+     */
+    public RetryPolicy getPostRetryPolicy() {
+        return postRetryPolicy;
+    }
+
+    /**
+     * How long a send made with a caller-supplied idempotency key is remembered,
+     * so that re-submitting the same key returns the original result without
+     * sending again. {@link Duration#ZERO} disables local de-duplication.
+     * Defaults to 10 minutes.
+     */
+    public Duration getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    /**
+     * Circuit breaker thresholds, applied separately to each endpoint. Defaults
+     * to {@link CircuitBreakerConfig#disabled()}.
+     */
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Listener notified of circuit breaker state changes, or {@code null}.
+     */
+    public CircuitBreakerListener getCircuitBreakerListener() {
+        return circuitBreakerListener;
+    }
+
+    /**
+     * Adaptive concurrency limit, applied separately to each endpoint. Defaults
+     * to {@link ConcurrencyLimitConfig#disabled()}.
+     */
+    public ConcurrencyLimitConfig getConcurrencyLimitConfig() {
+        return concurrencyLimitConfig;
+    }
+
+    /**
+     * Executor the HTTP client runs its asynchronous work and callbacks on, or
+     * {@code null} for the JDK's default cached thread pool.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Whether the HTTP client should run on virtual threads. Only honoured on
+     * JDK 21+; on older runtimes the JDK's default executor is used.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Preferred HTTP version. Defaults to {@link HttpClient.Version#HTTP_2},
+     * which falls back to HTTP/1.1 when the server does not support it.
+     */
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Whether {@code StatumClient} opens its connection to the API while being
+     * constructed. Defaults to {@code false}.
+     */
+    public boolean isWarmUpOnStart() {
+        return warmUpOnStart;
+    }
+
+    /**
+     * Receives a callback for every request. Defaults to
+     * {@link StatumMetrics#noop()}.
+     */
+    public StatumMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Builder for {@link StatumConfig}. Options not set keep the same defaults as
+     * {@link StatumConfig#StatumConfig(String, String)}.
+     */
+    public static final class Builder {
+        private final String consumerKey;
+        private final String consumerSecret;
+        private String baseUrl = DEFAULT_BASE_URL;
+        private Duration timeout = DEFAULT_TIMEOUT;
+        private Duration responseTimeout;
+        private final Map<String, Duration> endpointResponseTimeouts = new HashMap<>();
+        private Duration requestDeadline;
+        private RateLimiter rateLimiter = RateLimiter.unlimited();
+        private RetryPolicy retryPolicy = RetryPolicy.defaults();
+        private RetryPolicy postRetryPolicy = RetryPolicy.none();
+        private Duration idempotencyWindow = DEFAULT_IDEMPOTENCY_WINDOW;
+        private CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.disabled();
+        private CircuitBreakerListener circuitBreakerListener;
+        private ConcurrencyLimitConfig concurrencyLimitConfig = ConcurrencyLimitConfig.disabled();
+        private Executor executor;
+        private boolean virtualThreads;
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        private boolean warmUpOnStart;
+        private StatumMetrics metrics = StatumMetrics.noop();
+
+        private Builder(String consumerKey, String consumerSecret) {
+            this.consumerKey = consumerKey;
+            this.consumerSecret = consumerSecret;
+        }
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Sets the connect timeout.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets how long each attempt may wait for a response.
+         */
+        public Builder responseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+            return this;
+        }
+
+        /**
+         * Overrides the response timeout for one endpoint, e.g. to give
+         * {@code "/account-details"} a shorter budget than sends.
+         */
+        public Builder endpointResponseTimeout(String endpoint, Duration responseTimeout) {
+            Objects.requireNonNull(endpoint, "Endpoint must not be null");
+            String key = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+            endpointResponseTimeouts.put(key, requirePositive(responseTimeout, "Response timeout"));
+            return this;
+        }
+
+        /**
+         * Bounds the total time of every call, retries included.
+         */
+        public Builder requestDeadline(Duration requestDeadline) {
+            this.requestDeadline = requestDeadline;
+            return this;
+        }
+
+        /**
+         * Paces all requests through {@code rateLimiter}.
+         *
+         * @see ke.co.statum.sdk.resilience.TokenBucketRateLimiter
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy for idempotent requests such as {@code GET}.
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the retry policy for {@code POST} requests. Every send carries an
+         * {@code Idempotency-Key} header that stays the same across retries of
+         * that send.
+         */
+        public Builder postRetryPolicy(RetryPolicy postRetryPolicy) {
+            this.postRetryPolicy = postRetryPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how long sends with a caller-supplied idempotency key are
+         * remembered for local de-duplication.
+         */
+        public Builder idempotencyWindow(Duration idempotencyWindow) {
+            this.idempotencyWindow = idempotencyWindow;
+            return this;
+        }
+
+        /**
+         * Enables a circuit breaker per endpoint with the given thresholds.
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreakerConfig) {
+            this.circuitBreakerConfig = circuitBreakerConfig;
+            return this;
+        }
+
+        /**
+         * Registers a listener for circuit breaker state changes.
+         */
+        public Builder circuitBreakerListener(CircuitBreakerListener circuitBreakerListener) {
+            this.circuitBreakerListener = circuitBreakerListener;
+            return this;
+        }
+
+        /**
+         * Limits the calls in flight to each endpoint, tuning the limit from
+         * observed round-trip times and dropped calls.
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimitConfig) {
+            this.concurrencyLimitConfig = concurrencyLimitConfig;
+            return this;
+        }
+
+        /**
+         * Runs the HTTP client's asynchronous work on {@code executor}. The SDK
+         * does not shut it down.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Runs the HTTP client on a virtual-thread-per-task executor when the
+         * JDK supports it (21+), so that thousands of concurrent calls do not
+         * each hold a platform thread.
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Selects the preferred HTTP version.
+         */
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        /**
+         * Makes {@code StatumClient}'s constructor block until the connection to
+         * the base URL is established, so that the first request after a deploy
+         * does not pay for the TLS handshake. Warm-up failures are ignored.
+         */
+        public Builder warmUpOnStart(boolean warmUpOnStart) {
+            this.warmUpOnStart = warmUpOnStart;
+            return this;
+        }
+
+        /**
+         * Reports every request to {@code metrics}.
+         *
+         * @see ke.co.statum.sdk.metrics.InMemoryStatumMetrics
+         */
+        public Builder metrics(StatumMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public StatumConfig build() {
+            return new StatumConfig(this);
+        }
+    }
 }
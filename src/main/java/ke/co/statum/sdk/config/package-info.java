@@ -4,7 +4,8 @@
  * <p>
  * Use {@link ke.co.statum.sdk.config.StatumConfig} to configure API
  * credentials,
- * base URL, and timeout settings.
+ * base URL, and timeout settings, and
+ * {@link ke.co.statum.sdk.config.RequestOptions} to adjust a single call.
  * </p>
  *
  * @since 1.0.0
@@ -0,0 +1,18 @@
+package ke.co.statum.sdk.exceptions;
+
+/**
+ * Thrown without contacting the API when the circuit breaker for an endpoint
+ * is open because recent calls to it have been failing or slow.
+ */
+public class CircuitBreakerOpenException extends ApiException {
+    private final String endpoint;
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("Circuit breaker is open for " + endpoint);
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
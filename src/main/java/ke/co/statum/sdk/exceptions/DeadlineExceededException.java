@@ -0,0 +1,13 @@
+package ke.co.statum.sdk.exceptions;
+
+/**
+ * Thrown when a call's end-to-end deadline has passed, or would pass while
+ * waiting for a rate-limit or concurrency-limit permit, before its next attempt
+ * could be sent. When the deadline cuts a
+ * retry sequence short, the last attempt's own error is thrown instead.
+ */
+public class DeadlineExceededException extends NetworkException {
+    public DeadlineExceededException(String message) {
+        super(message, null);
+    }
+}
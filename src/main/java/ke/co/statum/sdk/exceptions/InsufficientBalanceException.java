@@ -0,0 +1,32 @@
+package ke.co.statum.sdk.exceptions;
+
+import java.math.BigDecimal;
+
+/**
+ * Thrown locally, before any request is sent, when a spend would exceed the
+ * balance tracked by {@link ke.co.statum.sdk.services.BalanceLedger}.
+ */
+public class InsufficientBalanceException extends ApiException {
+    private final BigDecimal requested;
+    private final BigDecimal available;
+
+    public InsufficientBalanceException(String message, BigDecimal requested, BigDecimal available) {
+        super(message);
+        this.requested = requested;
+        this.available = available;
+    }
+
+    /**
+     * The amount the rejected spend asked for, in KES.
+     */
+    public BigDecimal getRequested() {
+        return requested;
+    }
+
+    /**
+     * The balance left unreserved when the spend was rejected, in KES.
+     */
+    public BigDecimal getAvailable() {
+        return available;
+    }
+}
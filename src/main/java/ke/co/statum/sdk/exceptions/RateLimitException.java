@@ -0,0 +1,24 @@
+package ke.co.statum.sdk.exceptions;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Thrown when the API rejects a request because of throttling (HTTP 429).
+ */
+public class RateLimitException extends ApiException {
+    private final Duration retryAfter;
+
+    public RateLimitException(String message, String responseBody, Duration retryAfter) {
+        super(message, 429, responseBody);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long the API asked the client to wait, if it sent a
+     * {@code Retry-After} header.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+}
@@ -8,7 +8,11 @@
  * ├── {@link ke.co.statum.sdk.exceptions.AuthenticationException} (HTTP 401)
  * ├── {@link ke.co.statum.sdk.exceptions.AuthorizationException} (HTTP 403)
  * ├── {@link ke.co.statum.sdk.exceptions.ValidationException} (HTTP 422)
+ * ├── {@link ke.co.statum.sdk.exceptions.RateLimitException} (HTTP 429)
+ * ├── {@link ke.co.statum.sdk.exceptions.CircuitBreakerOpenException} (Failing fast while an endpoint is unhealthy)
+ * ├── {@link ke.co.statum.sdk.exceptions.InsufficientBalanceException} (Spend rejected by the local balance ledger)
  * └── {@link ke.co.statum.sdk.exceptions.NetworkException} (Network/timeout errors)
+ *     └── {@link ke.co.statum.sdk.exceptions.DeadlineExceededException} (End-to-end deadline passed)
  * </pre>
  *
  * @since 1.0.0
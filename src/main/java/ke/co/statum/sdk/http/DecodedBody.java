@@ -0,0 +1,27 @@
+package ke.co.statum.sdk.http;
+
+import java.io.IOException;
+
+/**
+ * Response body as produced by {@link JsonBodyHandler}: the decoded value for
+ * successful responses, or the raw text for error responses.
+ *
+ * @param value     the decoded value, or {@code null} for error responses or if
+ *                  decoding failed
+ * @param errorBody the raw body of a non-2xx response, otherwise {@code null}
+ * @param length    number of body bytes received
+ * @param failure   why decoding a successful response failed, or {@code null}
+ */
+record DecodedBody<T>(T value, String errorBody, long length, IOException failure) {
+
+    /**
+     * @return the decoded value
+     * @throws IOException if the body could not be decoded
+     */
+    T valueOrThrow() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        return value;
+    }
+}
@@ -1,75 +1,357 @@
 package ke.co.statum.sdk.http;
 
+import ke.co.statum.sdk.config.RequestOptions;
 import ke.co.statum.sdk.config.StatumConfig;
 import ke.co.statum.sdk.exceptions.*;
+import ke.co.statum.sdk.metrics.StatumMetrics;
+import ke.co.statum.sdk.resilience.CircuitBreaker;
+import ke.co.statum.sdk.resilience.CircuitBreakerConfig;
+import ke.co.statum.sdk.resilience.CircuitBreakerListener;
+import ke.co.statum.sdk.resilience.ConcurrencyLimitConfig;
+import ke.co.statum.sdk.resilience.ConcurrencyLimiter;
+import ke.co.statum.sdk.resilience.RateLimiter;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import ke.co.statum.sdk.resilience.RetryStats;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Internal HTTP client wrapper.
  */
 public class HttpClientProvider {
 
+    /**
+     * Endpoints called by the bundled services, whose request templates are
+     * built when the provider is created.
+     */
+    static final List<String> KNOWN_ENDPOINTS = List.of("/sms", "/airtime", "/account-details");
+
     private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
     private final StatumConfig config;
     private final String authHeader;
+    private final RateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final RetryPolicy postRetryPolicy;
+    private final RetryStats retryStats = new RetryStats();
+    private final IdempotencyCache idempotencyCache;
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final CircuitBreakerListener circuitBreakerListener;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrencyLimitConfig concurrencyLimitConfig;
+    private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    private final Executor retryExecutor;
+    private final StatumMetrics metrics;
+    private final Map<String, RequestTemplate> templates;
 
     public HttpClientProvider(StatumConfig config) {
-        this(config, HttpClient.newBuilder()
-                .connectTimeout(config.getTimeout())
-                .build());
+        this(config, newHttpClient(config));
     }
 
     public HttpClientProvider(StatumConfig config, HttpClient httpClient) {
         this.config = config;
         this.httpClient = httpClient;
-        this.objectMapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE); // API uses snake_case
+        this.retryExecutor = httpClient.executor().orElse(ForkJoinPool.commonPool());
+        this.metrics = config.getMetrics();
 
         String credentials = config.getConsumerKey() + ":" + config.getConsumerSecret();
         this.authHeader = "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        this.rateLimiter = config.getRateLimiter();
+        this.retryPolicy = config.getRetryPolicy();
+        this.postRetryPolicy = config.getPostRetryPolicy();
+        this.idempotencyCache = config.getIdempotencyWindow().isZero()
+                ? null
+                : new IdempotencyCache(config.getIdempotencyWindow());
+        this.circuitBreakerConfig = config.getCircuitBreakerConfig();
+        this.circuitBreakerListener = config.getCircuitBreakerListener();
+        this.concurrencyLimitConfig = config.getConcurrencyLimitConfig();
+
+        Map<String, RequestTemplate> known = new HashMap<>();
+        for (String endpoint : KNOWN_ENDPOINTS) {
+            known.put(endpoint, newTemplate(endpoint));
+        }
+        for (String endpoint : config.getEndpointResponseTimeouts().keySet()) {
+            known.putIfAbsent(endpoint, newTemplate(endpoint));
+        }
+        this.templates = Map.copyOf(known);
+    }
+
+    /**
+     * Counters for retries performed by this client.
+     */
+    public RetryStats getRetryStats() {
+        return retryStats;
+    }
+
+    /**
+     * Returns the circuit breaker guarding {@code endpoint}, or {@code null} if
+     * circuit breaking is disabled.
+     */
+    public CircuitBreaker getCircuitBreaker(String endpoint) {
+        if (!circuitBreakerConfig.isEnabled()) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(endpointKey(endpoint),
+                key -> new CircuitBreaker(key, circuitBreakerConfig, circuitBreakerListener));
+    }
+
+    /**
+     * Returns the adaptive concurrency limiter for {@code endpoint}, or
+     * {@code null} if concurrency limiting is disabled.
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter(String endpoint) {
+        if (!concurrencyLimitConfig.isEnabled()) {
+            return null;
+        }
+        return concurrencyLimiters.computeIfAbsent(endpointKey(endpoint), key -> new ConcurrencyLimiter(key,
+                concurrencyLimitConfig, limit -> notifyMetrics(() -> metrics.onConcurrencyLimitChanged(key, limit))));
     }
 
     public <T> T post(String endpoint, Object requestBody, Class<T> responseType) {
+        return post(endpoint, requestBody, responseType, RequestOptions.defaults());
+    }
+
+    /**
+     * Sends a {@code POST} with an {@code Idempotency-Key} header taken from
+     * {@code options}, or freshly generated if none was supplied. Retries of this
+     * call reuse the same key.
+     *
+     * <p>
+     * When a caller-supplied key was already used within the idempotency window,
+     * the original result is returned without sending again.
+     * </p>
+     */
+    public <T> T post(String endpoint, Object requestBody, Class<T> responseType, RequestOptions options) {
+        String idempotencyKey = options.getIdempotencyKey();
+        if (idempotencyKey == null || idempotencyCache == null) {
+            return sendRequest(endpoint, buildPostRequest(endpoint, requestBody, options), responseType, options);
+        }
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = idempotencyCache.claim(dedupKey(endpoint, idempotencyKey), pending);
+        if (existing != null) {
+            return responseType.cast(awaitShared(existing));
+        }
         try {
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(buildUrl(endpoint)))
-                    .header("Authorization", authHeader)
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            return sendRequest(request, responseType);
-        } catch (JsonProcessingException e) {
-            throw new ApiException("Failed to serialize request body", e);
+            T response = sendRequest(endpoint, buildPostRequest(endpoint, requestBody, options), responseType,
+                    options);
+            pending.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
         }
     }
 
     public <T> T get(String endpoint, Class<T> responseType) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(buildUrl(endpoint)))
-                .header("Authorization", authHeader)
-                .header("Accept", "application/json")
-                .GET()
+        return get(endpoint, responseType, RequestOptions.defaults());
+    }
+
+    /**
+     * Sends a {@code GET} with per-call timeout overrides from {@code options}.
+     */
+    public <T> T get(String endpoint, Class<T> responseType, RequestOptions options) {
+        return sendRequest(endpoint, buildGetRequest(endpoint, options), responseType, options);
+    }
+
+    /**
+     * Non-blocking variant of {@link #post(String, Object, Class)}.
+     *
+     * <p>
+     * The returned future completes with the decoded response, or exceptionally
+     * with the same {@link ApiException} subclass the blocking call would throw.
+     * </p>
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return postAsync(endpoint, requestBody, responseType, RequestOptions.defaults());
+    }
+
+    /**
+     * Non-blocking variant of {@link #post(String, Object, Class, RequestOptions)}.
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, Class<T> responseType,
+            RequestOptions options) {
+        String idempotencyKey = options.getIdempotencyKey();
+        if (idempotencyKey == null || idempotencyCache == null) {
+            return sendPostAsync(endpoint, requestBody, responseType, options);
+        }
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = idempotencyCache.claim(dedupKey(endpoint, idempotencyKey), pending);
+        if (existing != null) {
+            return existing.thenApply(responseType::cast);
+        }
+        CompletableFuture<T> response = sendPostAsync(endpoint, requestBody, responseType, options);
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                pending.completeExceptionally(unwrap(error));
+            } else {
+                pending.complete(result);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(String, Class)}.
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
+        return getAsync(endpoint, responseType, RequestOptions.defaults());
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(String, Class, RequestOptions)}.
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType, RequestOptions options) {
+        return sendRequestAsync(endpoint, buildGetRequest(endpoint, options), responseType, options);
+    }
+
+    private <T> CompletableFuture<T> sendPostAsync(String endpoint, Object requestBody, Class<T> responseType,
+            RequestOptions options) {
+        HttpRequest request;
+        try {
+            request = buildPostRequest(endpoint, requestBody, options);
+        } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendRequestAsync(endpoint, request, responseType, options);
+    }
+
+    private static String dedupKey(String endpoint, String idempotencyKey) {
+        return endpointKey(endpoint) + " " + idempotencyKey;
+    }
+
+    /**
+     * Establishes connections to the base URL before real traffic, so that the
+     * first calls do not pay for TCP, TLS and ALPN negotiation.
+     *
+     * <p>
+     * A single {@code HEAD} probe is sent first. Any HTTP status counts as
+     * success since only the connection matters; probes bypass rate limiting,
+     * retries and circuit breakers. If the server negotiated HTTP/2, later calls
+     * multiplex over that connection and nothing more is done. Otherwise
+     * {@code connections} further probes are sent concurrently to fill the
+     * HTTP/1.1 connection pool: one of them reuses the first probe's pooled
+     * connection and each of the others opens a new one.
+     * </p>
+     *
+     * @param connections connections to open when HTTP/2 is not available
+     * @return the negotiated HTTP version
+     */
+    public CompletableFuture<HttpClient.Version> warmUpAsync(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("Connections must be at least 1");
+        }
+        HttpRequest probe = HttpRequest.newBuilder()
+                .uri(URI.create(config.getBaseUrl()))
+                .timeout(config.getResponseTimeout())
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
                 .build();
+        CompletableFuture<HttpClient.Version> result = httpClient
+                .sendAsync(probe, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(first -> {
+                    if (first.version() == HttpClient.Version.HTTP_2 || connections == 1) {
+                        return CompletableFuture.completedFuture(first.version());
+                    }
+                    CompletableFuture<?>[] rest = new CompletableFuture<?>[connections];
+                    for (int i = 0; i < rest.length; i++) {
+                        rest[i] = httpClient.sendAsync(probe, HttpResponse.BodyHandlers.discarding());
+                    }
+                    return CompletableFuture.allOf(rest).thenApply(ignored -> first.version());
+                });
+        CompletableFuture<HttpClient.Version> mapped = new CompletableFuture<>();
+        result.whenComplete((version, error) -> {
+            if (error != null) {
+                mapped.completeExceptionally(toApiException(error));
+            } else {
+                mapped.complete(version);
+            }
+        });
+        return mapped;
+    }
+
+    /**
+     * Blocking variant of {@link #warmUpAsync(int)}.
+     *
+     * @throws NetworkException if the base URL could not be reached
+     */
+    public HttpClient.Version warmUp(int connections) {
+        try {
+            return warmUpAsync(connections).join();
+        } catch (CompletionException e) {
+            throw toApiException(e);
+        }
+    }
+
+    private static Object awaitShared(CompletableFuture<Object> shared) {
+        try {
+            return shared.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NetworkException("Request failed", cause);
+        }
+    }
+
+    private HttpRequest buildPostRequest(String endpoint, Object requestBody, RequestOptions options) {
+        String idempotencyKey = options.getIdempotencyKey();
+        try {
+            byte[] jsonBody = JsonBodyWriter.supports(requestBody)
+                    ? JsonBodyWriter.write(requestBody)
+                    : JsonMappers.writeValueAsBytes(requestBody);
+            RequestTemplate template = template(endpoint);
+            return template.post(responseTimeout(template, options),
+                    idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString(), jsonBody);
+        } catch (JsonProcessingException e) {
+            throw new ApiException("Failed to serialize request body", e);
+        }
+    }
 
-        return sendRequest(request, responseType);
+    private HttpRequest buildGetRequest(String endpoint, RequestOptions options) {
+        RequestTemplate template = template(endpoint);
+        return template.get(responseTimeout(template, options));
+    }
+
+    /**
+     * Returns the pre-built template for {@code endpoint}. Endpoints outside
+     * {@link #KNOWN_ENDPOINTS} and the configured per-endpoint timeouts get a
+     * fresh template per call rather than growing the cache.
+     */
+    RequestTemplate template(String endpoint) {
+        RequestTemplate template = templates.get(endpoint);
+        if (template == null) {
+            template = templates.get(endpointKey(endpoint));
+        }
+        return template != null ? template : newTemplate(endpoint);
+    }
+
+    private RequestTemplate newTemplate(String endpoint) {
+        Duration timeout = config.getEndpointResponseTimeouts()
+                .getOrDefault(endpointKey(endpoint), config.getResponseTimeout());
+        return new RequestTemplate(URI.create(buildUrl(endpoint)), timeout, authHeader);
     }
 
     /**
@@ -79,7 +361,7 @@ public class HttpClientProvider {
      * @param endpoint the API endpoint (e.g., "/airtime" or "airtime")
      * @return complete URL
      */
-    private String buildUrl(String endpoint) {
+    String buildUrl(String endpoint) {
         String base = config.getBaseUrl();
         String path = endpoint;
 
@@ -96,23 +378,496 @@ public class HttpClientProvider {
         return base + path;
     }
 
-    private <T> T sendRequest(HttpRequest request, Class<T> responseType) {
+    /**
+     * Runs a {@link StatumMetrics} callback, ignoring anything it throws.
+     */
+    private static void notifyMetrics(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException ignored) {
+            // Metrics failures must not affect request handling.
+        }
+    }
+
+    /**
+     * Normalizes an endpoint to the {@code "/name"} form used to key per-endpoint
+     * state such as rate-limit budgets.
+     */
+    private static String endpointKey(String endpoint) {
+        return endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+    }
+
+    /**
+     * Builds the JDK client for {@code config}: connect timeout, preferred HTTP
+     * version and, if requested, a custom or virtual-thread executor.
+     */
+    public static HttpClient newHttpClient(StatumConfig config) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(config.getTimeout())
+                .version(config.getHttpVersion());
+        Executor executor = config.isVirtualThreads() ? VirtualThreads.newExecutor() : config.getExecutor();
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolves the per-attempt response timeout: the call's override, else the
+     * endpoint's configured timeout, else the global one.
+     */
+    private static Duration responseTimeout(RequestTemplate template, RequestOptions options) {
+        Duration override = options.getResponseTimeout();
+        return override != null ? override : template.getResponseTimeout();
+    }
+
+    private <T> T sendRequest(String endpoint, HttpRequest request, Class<T> responseType, RequestOptions options) {
+        Call call = new Call(endpoint, request, options);
+        try {
+            return sendRequest(call, responseType);
+        } catch (RuntimeException e) {
+            call.onFailed(e);
+            throw e;
+        }
+    }
+
+    private <T> T sendRequest(Call call, Class<T> responseType) {
+        while (true) {
+            HttpResponse<DecodedBody<T>> response;
+            long retryDelay;
+            call.acquirePermission();
+            try {
+                call.acquireRateLimit();
+                call.acquireLimit();
+                HttpRequest attempt = call.beginAttempt();
+                response = httpClient.send(attempt, JsonMappers.bodyHandler(responseType));
+                retryDelay = call.onResponse(response);
+            } catch (RuntimeException e) {
+                call.abandon(e);
+                throw e;
+            } catch (IOException e) {
+                retryDelay = call.onNetworkError(e);
+                if (retryDelay < 0) {
+                    throw new NetworkException("Request failed", e);
+                }
+                response = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                call.abandon(e);
+                throw new NetworkException("Request failed", e);
+            }
+
+            if (retryDelay < 0) {
+                try {
+                    return readResponse(response);
+                } catch (IOException e) {
+                    throw new NetworkException("Request failed", e);
+                }
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                call.abandon(e);
+                throw new NetworkException("Interrupted while waiting to retry", e);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> sendRequestAsync(String endpoint, HttpRequest request, Class<T> responseType,
+            RequestOptions options) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Call call = new Call(endpoint, request, options);
+        attemptAsync(call, responseType, result);
+        return result.whenComplete((response, error) -> {
+            if (error != null) {
+                call.onFailed(unwrap(error));
+            }
+        });
+    }
+
+    private <T> void attemptAsync(Call call, Class<T> responseType, CompletableFuture<T> result) {
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleError(response);
-            return objectMapper.readValue(response.body(), responseType);
-        } catch (IOException | InterruptedException e) {
-            throw new NetworkException("Request failed", e);
+            call.acquirePermission();
+        } catch (CircuitBreakerOpenException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        call.acquireRateLimitAsync()
+                .thenCompose(permit -> call.acquireLimitAsync())
+                .thenCompose(permit -> httpClient.sendAsync(call.beginAttempt(), JsonMappers.bodyHandler(responseType)))
+                .whenComplete((response, error) -> {
+                    Throwable cause = unwrap(error);
+                    long retryDelay;
+                    if (cause == null) {
+                        retryDelay = call.onResponse(response);
+                    } else if (cause instanceof IOException e) {
+                        retryDelay = call.onNetworkError(e);
+                    } else {
+                        retryDelay = call.abandon(cause);
+                    }
+
+                    if (retryDelay >= 0) {
+                        CompletableFuture.delayedExecutor(retryDelay, TimeUnit.NANOSECONDS, retryExecutor)
+                                .execute(() -> attemptAsync(call, responseType, result));
+                    } else if (cause != null) {
+                        result.completeExceptionally(toApiException(cause));
+                    } else {
+                        try {
+                            result.complete(readResponse(response));
+                        } catch (IOException e) {
+                            result.completeExceptionally(new NetworkException("Request failed", e));
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+    }
+
+    private <T> T readResponse(HttpResponse<DecodedBody<T>> response) throws IOException {
+        DecodedBody<T> body = response.body();
+        handleError(response, body.errorBody());
+        return body.valueOrThrow();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Maps a failure surfaced by {@code sendAsync} onto the exception the blocking
+     * path would have thrown for the same cause.
+     */
+    private static ApiException toApiException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof ApiException apiException) {
+            return apiException;
+        }
+        return new NetworkException("Request failed", cause);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delay-seconds or as an
+     * HTTP-date.
+     *
+     * @return the requested delay, or {@code null} if the header is absent or
+     *         malformed
+     */
+    static Duration parseRetryAfter(HttpResponse<?> response) {
+        HttpHeaders headers = response.headers();
+        if (headers == null) {
+            return null;
+        }
+        String value = headers.firstValue("Retry-After").orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Retry, deadline, circuit-breaker, concurrency-limit and metrics bookkeeping for one logical
+     * request, shared by the blocking and async paths. Attempts of one call never overlap,
+     * so no synchronization is needed.
+     */
+    private final class Call {
+        private final String endpoint;
+        private final HttpRequest request;
+        private final RetryPolicy policy;
+        private final CircuitBreaker circuitBreaker;
+        private final ConcurrencyLimiter concurrencyLimiter;
+        private final long deadline;
+        private final boolean hasDeadline;
+        private final long bytesSent;
+        private int attempts;
+        private boolean attemptInFlight;
+        private long attemptStart;
+        private long firstAttemptEnd;
+        private boolean holdsPermission;
+        private boolean holdsLimit;
+
+        Call(String endpoint, HttpRequest request, RequestOptions options) {
+            this.endpoint = endpointKey(endpoint);
+            this.request = request;
+            this.policy = "GET".equals(request.method()) ? retryPolicy : postRetryPolicy;
+            this.circuitBreaker = getCircuitBreaker(this.endpoint);
+            this.concurrencyLimiter = getConcurrencyLimiter(this.endpoint);
+            Duration budget = options.getDeadline() != null ? options.getDeadline() : config.getRequestDeadline();
+            this.hasDeadline = budget != null;
+            this.deadline = hasDeadline ? System.nanoTime() + budget.toNanos() : 0;
+            this.bytesSent = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength)
+                    .filter(length -> length > 0)
+                    .orElse(0L);
+        }
+
+        /**
+         * Fails fast with {@link CircuitBreakerOpenException} while the endpoint's
+         * breaker is open.
+         */
+        void acquirePermission() {
+            if (circuitBreaker == null) {
+                return;
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                finish(false, false);
+                throw new CircuitBreakerOpenException(endpoint);
+            }
+            holdsPermission = true;
+        }
+
+        /**
+         * Waits for a rate-limit permit, for no longer than the deadline allows.
+         *
+         * @throws DeadlineExceededException if the wait would outlast the deadline
+         */
+        void acquireRateLimit() throws InterruptedException {
+            if (!hasDeadline) {
+                rateLimiter.acquire(endpoint);
+            } else if (!rateLimiter.tryAcquire(endpoint, remainingNanos())) {
+                throw deadlineExceeded();
+            }
+        }
+
+        /**
+         * Non-blocking variant of {@link #acquireRateLimit()}.
+         */
+        CompletableFuture<Void> acquireRateLimitAsync() {
+            if (!hasDeadline) {
+                return rateLimiter.acquireAsync(endpoint);
+            }
+            return rateLimiter.tryAcquireAsync(endpoint, remainingNanos()).thenApply(acquired -> {
+                if (!acquired) {
+                    throw deadlineExceeded();
+                }
+                return null;
+            });
+        }
+
+        /**
+         * Waits for a slot under the endpoint's concurrency limit, for no longer
+         * than the deadline allows.
+         *
+         * @throws DeadlineExceededException if no slot freed up in time
+         */
+        void acquireLimit() throws InterruptedException {
+            if (concurrencyLimiter == null) {
+                return;
+            }
+            if (!hasDeadline) {
+                concurrencyLimiter.acquire();
+            } else if (!concurrencyLimiter.tryAcquire(remainingNanos())) {
+                throw deadlineExceeded();
+            }
+            holdsLimit = true;
+        }
+
+        /**
+         * Non-blocking variant of {@link #acquireLimit()}.
+         */
+        CompletableFuture<Void> acquireLimitAsync() {
+            if (concurrencyLimiter == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (!hasDeadline) {
+                return concurrencyLimiter.acquireAsync().thenRun(() -> holdsLimit = true);
+            }
+            return concurrencyLimiter.acquireAsync(remainingNanos()).handle((permit, error) -> {
+                if (error != null) {
+                    throw deadlineExceeded();
+                }
+                holdsLimit = true;
+                return null;
+            });
+        }
+
+        private long remainingNanos() {
+            return deadline - System.nanoTime();
+        }
+
+        private DeadlineExceededException deadlineExceeded() {
+            return new DeadlineExceededException("Deadline exceeded before request to " + endpoint
+                    + " could be sent");
+        }
+
+        /**
+         * Starts an attempt and returns the request to send, with its timeout
+         * shortened to whatever remains of the deadline.
+         *
+         * @throws DeadlineExceededException if the deadline has already passed
+         */
+        HttpRequest beginAttempt() {
+            long now = System.nanoTime();
+            HttpRequest attempt = request;
+            if (hasDeadline) {
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    throw deadlineExceeded();
+                }
+                Duration timeout = request.timeout().orElse(null);
+                if (timeout == null || timeout.toNanos() > remaining) {
+                    attempt = HttpRequest.newBuilder(request, (name, value) -> true)
+                            .timeout(Duration.ofNanos(remaining))
+                            .build();
+                }
+            }
+            attempts++;
+            attemptStart = now;
+            attemptInFlight = true;
+            retryStats.recordAttempt();
+            notifyMetrics(() -> metrics.onAttemptStart(endpoint));
+            return attempt;
+        }
+
+        /**
+         * @return nanoseconds to wait before retrying, or -1 to return the response
+         */
+        long onResponse(HttpResponse<?> response) {
+            markAttemptEnd();
+            int status = response.statusCode();
+            attemptInFlight = false;
+            long duration = System.nanoTime() - attemptStart;
+            long bytesReceived = response.body() instanceof DecodedBody<?> body ? body.length() : 0;
+            notifyMetrics(() -> metrics.onAttemptEnd(endpoint, status, duration, bytesSent, bytesReceived));
+            recordOutcome(status < 500 && status != 429);
+            releaseLimit(status);
+            if (status >= 200 && status < 300) {
+                return finish(true, false);
+            }
+            if (!policy.isRetryableStatus(status)) {
+                return finish(false, false);
+            }
+            return scheduleRetry(parseRetryAfter(response));
+        }
+
+        /**
+         * @return nanoseconds to wait before retrying, or -1 to fail the call
+         */
+        long onNetworkError(IOException error) {
+            markAttemptEnd();
+            endAttemptWithError(error);
+            recordOutcome(false);
+            releaseLimit(0);
+            if (!policy.isRetryOnNetworkErrors()) {
+                return finish(false, false);
+            }
+            return scheduleRetry(null);
+        }
+
+        long abandon(Throwable cause) {
+            endAttemptWithError(cause);
+            if (holdsPermission) {
+                holdsPermission = false;
+                circuitBreaker.releasePermission();
+            }
+            if (holdsLimit) {
+                holdsLimit = false;
+                concurrencyLimiter.release();
+            }
+            return finish(false, false);
+        }
+
+        /**
+         * Reports the exception the caller receives.
+         */
+        void onFailed(Throwable error) {
+            notifyMetrics(() -> metrics.onCallFailed(endpoint, error));
+        }
+
+        private void endAttemptWithError(Throwable error) {
+            if (attemptInFlight) {
+                attemptInFlight = false;
+                long duration = System.nanoTime() - attemptStart;
+                notifyMetrics(() -> metrics.onAttemptError(endpoint, error, duration, bytesSent));
+            }
+        }
+
+        private void recordOutcome(boolean healthy) {
+            if (!holdsPermission) {
+                return;
+            }
+            holdsPermission = false;
+            long duration = System.nanoTime() - attemptStart;
+            if (healthy) {
+                circuitBreaker.onSuccess(duration);
+            } else {
+                circuitBreaker.onFailure(duration);
+            }
+        }
+
+        /**
+         * Gives back the concurrency slot: a 2xx feeds its round-trip time to
+         * the limiter, a 429, a 5xx or a network error ({@code status} 0)
+         * counts as dropped, and any other answer only frees the slot.
+         */
+        private void releaseLimit(int status) {
+            if (!holdsLimit) {
+                return;
+            }
+            holdsLimit = false;
+            long rtt = System.nanoTime() - attemptStart;
+            if (status >= 200 && status < 300) {
+                concurrencyLimiter.onSuccess(rtt);
+            } else if (status == 0 || status == 429 || status >= 500) {
+                concurrencyLimiter.onDropped(rtt);
+            } else {
+                concurrencyLimiter.release();
+            }
+        }
+
+        private long scheduleRetry(Duration retryAfter) {
+            if (attempts >= policy.getMaxAttempts()) {
+                return finish(false, true);
+            }
+            long delay = policy.backoffNanos(attempts);
+            if (retryAfter != null && policy.isRespectRetryAfter()) {
+                if (retryAfter.compareTo(policy.getMaxRetryAfter()) > 0) {
+                    return finish(false, true);
+                }
+                delay = Math.max(delay, retryAfter.toNanos());
+            }
+            if (hasDeadline && System.nanoTime() + delay >= deadline) {
+                return finish(false, true);
+            }
+            retryStats.recordRetry(delay);
+            return delay;
+        }
+
+        private void markAttemptEnd() {
+            if (attempts == 1) {
+                firstAttemptEnd = System.nanoTime();
+            }
+        }
+
+        private long finish(boolean succeeded, boolean exhausted) {
+            if (attempts > 1) {
+                retryStats.recordRetriedCall(succeeded, exhausted, System.nanoTime() - firstAttemptEnd);
+            } else if (exhausted) {
+                retryStats.recordExhausted();
+            }
+            return -1;
         }
     }
 
-    private void handleError(HttpResponse<String> response) {
+    void handleError(HttpResponse<?> response, String body) {
         int status = response.statusCode();
         if (status >= 200 && status < 300) {
             return;
         }
 
-        String body = response.body();
         if (status == 401) {
             throw new AuthenticationException("Authentication failed", body);
         } else if (status == 403) {
@@ -120,9 +875,7 @@ public class HttpClientProvider {
         } else if (status == 422) {
             Map<String, List<String>> errors = null;
             try {
-                Map<String, Object> map = objectMapper.readValue(body,
-                        new com.fasterxml.jackson.core.type.TypeReference<Map<String, Object>>() {
-                        });
+                Map<String, Object> map = JsonMappers.mapReader().readValue(body);
                 Object ve = map.get("validation_errors");
 
                 // If validation_errors key exists, use it. Otherwise, assume errors are at root
@@ -148,6 +901,8 @@ public class HttpClientProvider {
             } catch (Exception ignored) {
             }
             throw new ValidationException("Validation failed", body, errors);
+        } else if (status == 429) {
+            throw new RateLimitException("Rate limit exceeded", body, parseRetryAfter(response));
         } else {
             throw new ApiException("API error: " + status, status, body);
         }
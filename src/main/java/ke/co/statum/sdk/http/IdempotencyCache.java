@@ -0,0 +1,82 @@
+package ke.co.statum.sdk.http;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory record of recent sends keyed by idempotency key.
+ *
+ * <p>
+ * A submission that reuses a key within the window is handed the original
+ * request's result, or joins it while it is still in flight, instead of being
+ * sent again. Failed sends are forgotten immediately so that the caller can
+ * re-submit them.
+ * </p>
+ */
+final class IdempotencyCache {
+
+    private final long windowNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    IdempotencyCache(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.nextSweep = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * Registers {@code pending} as the result for {@code key} unless a live entry
+     * already exists.
+     *
+     * @return the existing result to reuse, or {@code null} if the caller now owns
+     *         the key and must complete {@code pending}
+     */
+    CompletableFuture<Object> claim(String key, CompletableFuture<Object> pending) {
+        long now = System.nanoTime();
+        sweepIfDue(now);
+        Entry fresh = new Entry(pending, now);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                forgetOnFailure(key, fresh);
+                return null;
+            }
+            if (existing.isLive(now, windowNanos)) {
+                return existing.result;
+            }
+            if (entries.replace(key, existing, fresh)) {
+                forgetOnFailure(key, fresh);
+                return null;
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void forgetOnFailure(String key, Entry entry) {
+        entry.result.whenComplete((result, error) -> {
+            if (error != null) {
+                entries.remove(key, entry);
+            }
+        });
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + windowNanos)) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.result.isDone() && !entry.isLive(now, windowNanos));
+    }
+
+    private record Entry(CompletableFuture<Object> result, long createdAt) {
+        boolean isLive(long now, long windowNanos) {
+            return now - createdAt < windowNanos && !result.isCompletedExceptionally();
+        }
+    }
+}
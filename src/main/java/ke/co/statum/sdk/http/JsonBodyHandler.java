@@ -0,0 +1,148 @@
+package ke.co.statum.sdk.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Decodes JSON response bodies into {@code T} while they stream in.
+ *
+ * <p>
+ * For 2xx responses each chunk is fed to Jackson's non-blocking parser as it
+ * arrives and the resulting tokens are buffered, so the body is never
+ * assembled into one array or decoded into a {@code String}. Other responses
+ * are kept as raw text for error reporting.
+ * </p>
+ *
+ * <p>
+ * Decoding failures do not fail the body future, which the HTTP client would
+ * report as an I/O error and the SDK would retry. They are carried in the
+ * {@link DecodedBody} instead and surfaced when the response is read.
+ * </p>
+ */
+final class JsonBodyHandler<T> implements HttpResponse.BodyHandler<DecodedBody<T>> {
+
+    private final JsonFactory factory;
+    private final ObjectReader reader;
+
+    /**
+     * @param reader reader bound to {@code T}
+     */
+    JsonBodyHandler(JsonFactory factory, ObjectReader reader) {
+        this.factory = factory;
+        this.reader = reader;
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<DecodedBody<T>> apply(HttpResponse.ResponseInfo responseInfo) {
+        int status = responseInfo.statusCode();
+        if (status >= 200 && status < 300) {
+            return new Decoding();
+        }
+        Charset charset = charsetOf(responseInfo);
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                bytes -> new DecodedBody<>(null, new String(bytes, charset), bytes.length, null));
+    }
+
+    private static Charset charsetOf(HttpResponse.ResponseInfo responseInfo) {
+        String contentType = responseInfo.headers().firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private final class Decoding implements HttpResponse.BodySubscriber<DecodedBody<T>> {
+        private final CompletableFuture<DecodedBody<T>> body = new CompletableFuture<>();
+        private JsonParser parser;
+        private ByteBufferFeeder feeder;
+        private TokenBuffer tokens;
+        private long length;
+        private IOException failure;
+
+        @Override
+        public CompletionStage<DecodedBody<T>> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            try {
+                parser = factory.createNonBlockingByteBufferParser();
+                feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+                tokens = new TokenBuffer(parser);
+            } catch (IOException e) {
+                failure = e;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                length += buffer.remaining();
+                if (failure == null) {
+                    try {
+                        feeder.feedInput(buffer);
+                        drain();
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            T value = null;
+            if (failure == null) {
+                try {
+                    feeder.endOfInput();
+                    drain();
+                    value = reader.readValue(tokens.asParser());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            body.complete(new DecodedBody<>(value, null, length, failure));
+        }
+
+        /**
+         * Moves every token available from the input fed so far into the token
+         * buffer, which also consumes the input so the next chunk can be fed.
+         */
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                tokens.copyCurrentEvent(parser);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.SmsRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes the SDK's own request records as UTF-8 JSON without reflection or
+ * intermediate strings.
+ *
+ * <p>
+ * Field names are encoded once. Values are escaped and encoded straight into a
+ * per-thread buffer that is reused across calls, so serializing a request
+ * allocates only the final, exactly sized byte array handed to the request
+ * publisher. That copy is needed because the publisher may be read again on
+ * retry, after the buffer has been reused.
+ * </p>
+ */
+final class JsonBodyWriter {
+
+    private static final int INITIAL_CAPACITY = 512;
+    // Larger buffers are dropped after use so that one huge message does not
+    // pin memory on every thread.
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final byte[] PHONE_NUMBER = fieldName("phone_number", true);
+    private static final byte[] SENDER_ID = fieldName("sender_id", false);
+    private static final byte[] MESSAGE = fieldName("message", false);
+    private static final byte[] AMOUNT = fieldName("amount", false);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<JsonBodyWriter> WRITERS = ThreadLocal.withInitial(JsonBodyWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private JsonBodyWriter() {
+    }
+
+    /**
+     * @return whether {@code body} is a type this writer handles
+     */
+    static boolean supports(Object body) {
+        return body instanceof SmsRequest || body instanceof AirtimeRequest;
+    }
+
+    /**
+     * Serializes {@code body}, which must be {@linkplain #supports supported}.
+     */
+    static byte[] write(Object body) {
+        JsonBodyWriter writer = WRITERS.get();
+        try {
+            if (body instanceof SmsRequest sms) {
+                writer.field(PHONE_NUMBER, sms.phoneNumber());
+                writer.field(SENDER_ID, sms.senderId());
+                writer.field(MESSAGE, sms.message());
+            } else if (body instanceof AirtimeRequest airtime) {
+                writer.field(PHONE_NUMBER, airtime.phoneNumber());
+                writer.field(AMOUNT, airtime.amount());
+            } else {
+                throw new IllegalArgumentException("Unsupported request body: " + body.getClass().getName());
+            }
+            writer.writeByte('}');
+            return Arrays.copyOf(writer.buffer, writer.size);
+        } finally {
+            writer.reset();
+        }
+    }
+
+    /**
+     * Encodes {@code "name":} preceded by {@code {} for the first field or a
+     * comma otherwise.
+     */
+    private static byte[] fieldName(String name, boolean first) {
+        return ((first ? "{\"" : ",\"") + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void field(byte[] name, String value) {
+        ensureCapacity(name.length);
+        System.arraycopy(name, 0, buffer, size, name.length);
+        size += name.length;
+        if (value == null) {
+            ensureCapacity(4);
+            buffer[size++] = 'n';
+            buffer[size++] = 'u';
+            buffer[size++] = 'l';
+            buffer[size++] = 'l';
+        } else {
+            string(value);
+        }
+    }
+
+    private void string(String value) {
+        int length = value.length();
+        // Worst case is six bytes per char for \\u escapes.
+        ensureCapacity(length * 6 + 2);
+        byte[] out = buffer;
+        int pos = size;
+        out[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    out[pos++] = (byte) c;
+                } else {
+                    pos = escape(out, pos, c);
+                }
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates have no UTF-8 form; keep them as escapes.
+                pos = escape(out, pos, c);
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out[pos++] = '"';
+        size = pos;
+    }
+
+    private static int escape(byte[] out, int pos, char c) {
+        out[pos++] = '\\';
+        switch (c) {
+            case '"' -> out[pos++] = '"';
+            case '\\' -> out[pos++] = '\\';
+            case '\n' -> out[pos++] = 'n';
+            case '\r' -> out[pos++] = 'r';
+            case '\t' -> out[pos++] = 't';
+            case '\b' -> out[pos++] = 'b';
+            case '\f' -> out[pos++] = 'f';
+            default -> {
+                out[pos++] = 'u';
+                out[pos++] = HEX[(c >> 12) & 0xF];
+                out[pos++] = HEX[(c >> 8) & 0xF];
+                out[pos++] = HEX[(c >> 4) & 0xF];
+                out[pos++] = HEX[c & 0xF];
+            }
+        }
+        return pos;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    private void reset() {
+        size = 0;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ke.co.statum.sdk.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.SmsRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link ObjectMapper} shared by every client in the JVM, with cached
+ * readers, writers and body handlers per type.
+ *
+ * <p>
+ * Jackson's per-type introspection is paid once per process instead of once
+ * per {@link HttpClientProvider}, which matters when an application holds one
+ * client per tenant. Readers and writers for the SDK's own models are built
+ * when this class is loaded, so the first real call does not pay for them.
+ * </p>
+ *
+ * <p>
+ * If {@code jackson-module-blackbird} is on the classpath it is registered,
+ * replacing reflective property access with generated lambdas. The SDK does
+ * not require it.
+ * </p>
+ */
+final class JsonMappers {
+
+    static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private static final ObjectMapper MAPPER = newMapper();
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, JsonBodyHandler<?>> BODY_HANDLERS = new ConcurrentHashMap<>();
+    private static final ObjectReader MAP_READER = MAPPER.readerForMapOf(Object.class);
+
+    static {
+        for (Class<?> type : List.of(ApiResponse.class, AccountDetailsResponse.class)) {
+            bodyHandler(type);
+        }
+        for (Class<?> type : List.of(SmsRequest.class, AirtimeRequest.class)) {
+            writer(type);
+        }
+    }
+
+    private JsonMappers() {
+    }
+
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE); // API uses snake_case
+        Module blackbird = blackbird();
+        if (blackbird != null) {
+            mapper.registerModule(blackbird);
+        }
+        return mapper;
+    }
+
+    private static Module blackbird() {
+        try {
+            return (Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Whether the Blackbird module was found and registered.
+     */
+    static boolean isAccelerated() {
+        return MAPPER.getRegisteredModuleIds().contains(BLACKBIRD_MODULE);
+    }
+
+    static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * Serializes {@code value} with the writer cached for its runtime type.
+     */
+    static byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return MAPPER.writeValueAsBytes(null);
+        }
+        return writer(value.getClass()).writeValueAsBytes(value);
+    }
+
+    /**
+     * Reader for untyped JSON objects, used for error bodies.
+     */
+    static ObjectReader mapReader() {
+        return MAP_READER;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> JsonBodyHandler<T> bodyHandler(Class<T> type) {
+        return (JsonBodyHandler<T>) BODY_HANDLERS.computeIfAbsent(type,
+                key -> new JsonBodyHandler<>(MAPPER.getFactory(), reader(key)));
+    }
+}
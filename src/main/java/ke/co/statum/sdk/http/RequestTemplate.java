@@ -0,0 +1,64 @@
+package ke.co.statum.sdk.http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * Pre-assembled request parts for one endpoint: its resolved {@link URI}, its
+ * default response timeout and builders already carrying the headers shared
+ * by every {@code GET} and {@code POST}.
+ *
+ * <p>
+ * Requests are made from {@link HttpRequest.Builder#copy() copies} of the
+ * template builders, so the URL is parsed and the fixed headers are validated
+ * once per endpoint instead of once per call. The template builders are never
+ * modified after construction, which makes concurrent copying safe.
+ * </p>
+ */
+final class RequestTemplate {
+
+    private final URI uri;
+    private final Duration responseTimeout;
+    private final HttpRequest.Builder get;
+    private final HttpRequest.Builder post;
+
+    RequestTemplate(URI uri, Duration responseTimeout, String authHeader) {
+        this.uri = uri;
+        this.responseTimeout = responseTimeout;
+        this.get = HttpRequest.newBuilder(uri)
+                .header("Authorization", authHeader)
+                .header("Accept", "application/json");
+        this.post = HttpRequest.newBuilder(uri)
+                .header("Authorization", authHeader)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    URI getUri() {
+        return uri;
+    }
+
+    /**
+     * The endpoint's configured response timeout, used when a call does not
+     * override it.
+     */
+    Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    HttpRequest get(Duration timeout) {
+        return get.copy()
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    HttpRequest post(Duration timeout, String idempotencyKey, byte[] body) {
+        return post.copy()
+                .timeout(timeout)
+                .header("Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package ke.co.statum.sdk.http;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} at runtime so
+ * the SDK can use virtual threads on JDK 21+ while still compiling for 17.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle NEW_EXECUTOR = lookup();
+
+    private VirtualThreads() {
+    }
+
+    static boolean isAvailable() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * @return a new virtual-thread-per-task executor, or {@code null} when the
+     *         running JDK has no virtual threads
+     */
+    static ExecutorService newExecutor() {
+        if (NEW_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e);
+        }
+    }
+
+    private static MethodHandle lookup() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ke.co.statum.sdk.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one endpoint, kept by {@link InMemoryStatumMetrics}.
+ *
+ * <p>
+ * Values are live: each getter reads the current state without blocking
+ * writers.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class EndpointMetrics {
+
+    private final String endpoint;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final Map<Class<?>, LongAdder> attemptErrors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> callFailures = new ConcurrentHashMap<>();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private volatile int concurrencyLimit;
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Duration of every attempt, answered or not.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Attempts answered with a status in the given class.
+     *
+     * @param statusClass 1 to 5, e.g. 2 for 2xx responses
+     */
+    public long getResponses(int statusClass) {
+        if (statusClass < 1 || statusClass > 5) {
+            throw new IllegalArgumentException("Status class must be between 1 and 5");
+        }
+        return statusClasses[statusClass].sum();
+    }
+
+    /**
+     * Attempts that got no response, by exception class name, e.g.
+     * {@code java.net.http.HttpTimeoutException}.
+     */
+    public Map<String, Long> getAttemptErrors() {
+        return snapshot(attemptErrors);
+    }
+
+    /**
+     * Failed calls by the class name of the exception the caller received, e.g.
+     * {@code ke.co.statum.sdk.exceptions.ValidationException}.
+     */
+    public Map<String, Long> getCallFailures() {
+        return snapshot(callFailures);
+    }
+
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Attempts currently on the wire.
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Calls currently allowed in flight by the adaptive concurrency limiter, or
+     * 0 if concurrency limiting is disabled.
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    void onAttemptStart() {
+        inFlight.increment();
+    }
+
+    void onAttemptEnd(int statusCode, long durationNanos, long sent, long received) {
+        inFlight.decrement();
+        latency.record(durationNanos);
+        int statusClass = statusCode / 100;
+        statusClasses[statusClass >= 1 && statusClass <= 5 ? statusClass : 0].increment();
+        bytesSent.add(sent);
+        bytesReceived.add(received);
+    }
+
+    void onAttemptError(Throwable error, long durationNanos, long sent) {
+        inFlight.decrement();
+        latency.record(durationNanos);
+        bytesSent.add(sent);
+        increment(attemptErrors, error);
+    }
+
+    void onCallFailed(Throwable error) {
+        increment(callFailures, error);
+    }
+
+    void onConcurrencyLimitChanged(int limit) {
+        concurrencyLimit = limit;
+    }
+
+    private static void increment(Map<Class<?>, LongAdder> counters, Throwable error) {
+        counters.computeIfAbsent(error.getClass(), type -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> snapshot(Map<Class<?>, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((type, counter) -> result.put(type.getName(), counter.sum()));
+        return result;
+    }
+}
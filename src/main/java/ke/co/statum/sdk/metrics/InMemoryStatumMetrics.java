@@ -0,0 +1,92 @@
+package ke.co.statum.sdk.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link StatumMetrics} that keeps per-endpoint latency histograms and counters
+ * in memory, for scraping by a metrics exporter or a health endpoint.
+ *
+ * <pre>{@code
+ * InMemoryStatumMetrics metrics = new InMemoryStatumMetrics();
+ * StatumClient client = new StatumClient(StatumConfig.builder(key, secret)
+ *         .metrics(metrics)
+ *         .build());
+ *
+ * EndpointMetrics sms = metrics.getEndpoint("/sms");
+ * long p99 = sms.getLatency().getValueAtPercentile(99);
+ * long serverErrors = sms.getResponses(5);
+ * }</pre>
+ *
+ * <p>
+ * Recording takes no locks and, once an endpoint has been seen, does not
+ * allocate.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class InMemoryStatumMetrics implements StatumMetrics {
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Metrics for {@code endpoint}, or {@code null} if no request has been made
+     * to it yet.
+     */
+    public EndpointMetrics getEndpoint(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * Live view of all endpoints seen so far, keyed by path.
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+
+    /**
+     * Attempts currently on the wire across all endpoints.
+     */
+    public long getInFlight() {
+        long total = 0;
+        for (EndpointMetrics metrics : endpoints.values()) {
+            total += metrics.getInFlight();
+        }
+        return total;
+    }
+
+    @Override
+    public void onAttemptStart(String endpoint) {
+        forEndpoint(endpoint).onAttemptStart();
+    }
+
+    @Override
+    public void onAttemptEnd(String endpoint, int statusCode, long durationNanos, long bytesSent,
+            long bytesReceived) {
+        forEndpoint(endpoint).onAttemptEnd(statusCode, durationNanos, bytesSent, bytesReceived);
+    }
+
+    @Override
+    public void onAttemptError(String endpoint, Throwable error, long durationNanos, long bytesSent) {
+        forEndpoint(endpoint).onAttemptError(error, durationNanos, bytesSent);
+    }
+
+    @Override
+    public void onCallFailed(String endpoint, Throwable error) {
+        forEndpoint(endpoint).onCallFailed(error);
+    }
+
+    @Override
+    public void onConcurrencyLimitChanged(String endpoint, int limit) {
+        forEndpoint(endpoint).onConcurrencyLimitChanged(limit);
+    }
+
+    private EndpointMetrics forEndpoint(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(endpoint, EndpointMetrics::new);
+        }
+        return metrics;
+    }
+}
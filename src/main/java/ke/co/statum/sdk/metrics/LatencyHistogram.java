@@ -0,0 +1,110 @@
+package ke.co.statum.sdk.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear histogram of durations in nanoseconds, in the style of
+ * HdrHistogram.
+ *
+ * <p>
+ * Values below 64 are counted exactly. Above that, each power-of-two range is
+ * split into 32 equal buckets, so any recorded value is reported within about
+ * 3% of its true value. The buckets are allocated once, and
+ * {@link #record(long)} is lock-free and does not allocate.
+ * </p>
+ *
+ * <p>
+ * Reads see each bucket atomically but not all buckets at once, so percentiles
+ * taken while recording continues are approximate.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    private static final int BUCKETS = LINEAR_BUCKETS + (63 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * The largest recorded value, exactly, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * The mean of the recorded values, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * The value at {@code percentile}, from 0 to 100, rounded up to the top of
+     * its bucket. Returns 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueIn(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,8 @@
+package ke.co.statum.sdk.metrics;
+
+/**
+ * No-op metrics backing {@link StatumMetrics#noop()}.
+ */
+enum NoopStatumMetrics implements StatumMetrics {
+    INSTANCE
+}
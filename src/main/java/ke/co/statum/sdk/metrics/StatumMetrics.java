@@ -0,0 +1,70 @@
+package ke.co.statum.sdk.metrics;
+
+/**
+ * Receives a callback for every HTTP attempt the SDK makes, and for every call
+ * that fails.
+ *
+ * <p>
+ * An attempt is one request on the wire; a call that is retried makes several.
+ * Every {@link #onAttemptStart(String)} is followed by exactly one
+ * {@link #onAttemptEnd} or {@link #onAttemptError}. Endpoints are reported as
+ * paths such as {@code "/sms"}.
+ * </p>
+ *
+ * <p>
+ * Callbacks run on the request's thread, often an HTTP client thread, and must
+ * be fast and thread-safe. Exceptions they throw are ignored. All methods
+ * default to doing nothing.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public interface StatumMetrics {
+
+    /**
+     * Called just before an attempt is sent.
+     */
+    default void onAttemptStart(String endpoint) {
+    }
+
+    /**
+     * Called when an attempt received an HTTP response, whatever its status.
+     *
+     * @param durationNanos time from sending the request to receiving the body
+     * @param bytesSent     size of the request body
+     * @param bytesReceived size of the response body
+     */
+    default void onAttemptEnd(String endpoint, int statusCode, long durationNanos, long bytesSent,
+            long bytesReceived) {
+    }
+
+    /**
+     * Called when an attempt ended without a response, e.g. on a connection
+     * failure, a timeout or an interrupt.
+     */
+    default void onAttemptError(String endpoint, Throwable error, long durationNanos, long bytesSent) {
+    }
+
+    /**
+     * Called once when a call fails with {@code error}, the exception the caller
+     * receives.
+     */
+    default void onCallFailed(String endpoint, Throwable error) {
+    }
+
+    /**
+     * Called when the adaptive concurrency limit of {@code endpoint} is set up
+     * and whenever it changes.
+     *
+     * @see ke.co.statum.sdk.resilience.ConcurrencyLimiter
+     */
+    default void onConcurrencyLimitChanged(String endpoint, int limit) {
+    }
+
+    /**
+     * Metrics that discard everything. This is the default.
+     */
+    static StatumMetrics noop() {
+        return NoopStatumMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Request metrics reported by the HTTP layer.
+ *
+ * <p>
+ * Every HTTP attempt is reported to the
+ * {@link ke.co.statum.sdk.metrics.StatumMetrics} configured on
+ * {@link ke.co.statum.sdk.config.StatumConfig}:
+ * </p>
+ * <ul>
+ * <li>{@link ke.co.statum.sdk.metrics.StatumMetrics} - The callback interface,
+ * for bridging to an existing metrics library</li>
+ * <li>{@link ke.co.statum.sdk.metrics.InMemoryStatumMetrics} - A ready-made
+ * implementation that keeps per-endpoint counters for scraping</li>
+ * <li>{@link ke.co.statum.sdk.metrics.LatencyHistogram} - The lock-free,
+ * allocation-free latency histogram it uses</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ */
+package ke.co.statum.sdk.metrics;
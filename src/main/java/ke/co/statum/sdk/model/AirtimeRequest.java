@@ -0,0 +1,11 @@
+package ke.co.statum.sdk.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A single airtime top-up to be sent.
+ */
+public record AirtimeRequest(
+        @JsonProperty("phone_number") String phoneNumber,
+        @JsonProperty("amount") String amount) {
+}
@@ -0,0 +1,29 @@
+package ke.co.statum.sdk.model;
+
+/**
+ * Outcome of one request within a bulk operation.
+ *
+ * <p>
+ * Exactly one of {@code response} and {@code error} is non-null. The error is
+ * the same exception the single-request call would have thrown, usually an
+ * {@link ke.co.statum.sdk.exceptions.ApiException} subclass, or an
+ * {@link IllegalArgumentException} when the request failed client-side
+ * validation.
+ * </p>
+ *
+ * @param index    position of the request in the submitted collection
+ * @param request  the request this result belongs to
+ * @param response the API response on success, otherwise {@code null}
+ * @param error    the failure, otherwise {@code null}
+ * @param <Q>      the request type
+ */
+public record BulkResult<Q>(
+        int index,
+        Q request,
+        ApiResponse response,
+        RuntimeException error) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
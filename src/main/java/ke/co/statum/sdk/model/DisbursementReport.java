@@ -0,0 +1,52 @@
+package ke.co.statum.sdk.model;
+
+import java.util.List;
+
+/**
+ * Totals of a bulk airtime disbursement, for reconciliation.
+ *
+ * <p>
+ * Every recipient lands in exactly one bucket. <em>Disbursed</em> recipients
+ * were accepted by the API with a 2xx status. <em>Rejected</em> ones were
+ * refused, with a 4xx status or an open circuit breaker, and certainly did not
+ * receive airtime. <em>Unconfirmed</em> ones failed in a way that leaves the
+ * outcome unknown, such as a timeout, a 5xx status or a response whose body
+ * carries no 2xx status, and should be checked against the account statement
+ * before being re-sent.
+ * </p>
+ *
+ * @param recipients        number of recipients in the run
+ * @param disbursed         recipients the API accepted
+ * @param rejected          recipients that certainly received nothing
+ * @param unconfirmed       recipients whose outcome is unknown
+ * @param amountDisbursed   total amount accepted
+ * @param amountRejected    total amount not sent
+ * @param amountUnconfirmed total amount that may or may not have been sent
+ * @param results           one result per recipient in submission order, or
+ *                          empty if results were not retained
+ * @since 1.1.0
+ */
+public record DisbursementReport(
+        int recipients,
+        int disbursed,
+        int rejected,
+        int unconfirmed,
+        Money amountDisbursed,
+        Money amountRejected,
+        Money amountUnconfirmed,
+        List<BulkResult<AirtimeRequest>> results) {
+
+    /**
+     * Total amount of the run across all buckets.
+     */
+    public Money amountRequested() {
+        return Money.ofCents(amountDisbursed.cents() + amountRejected.cents() + amountUnconfirmed.cents());
+    }
+
+    /**
+     * Whether every recipient was disbursed.
+     */
+    public boolean isComplete() {
+        return disbursed == recipients;
+    }
+}
@@ -0,0 +1,134 @@
+package ke.co.statum.sdk.model;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount of KES held as a whole number of cents.
+ *
+ * <p>
+ * Amounts are parsed from plain decimal strings such as {@code "100"} or
+ * {@code "99.50"} straight into cents, without going through {@code double},
+ * so bounds checks are exact integer comparisons. {@link #parseCents} does not
+ * allocate unless the input is invalid.
+ * </p>
+ *
+ * @param cents the amount in cents
+ * @since 1.1.0
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    /** Largest whole-KES value whose cents still fit in a long. */
+    private static final long MAX_UNITS = (Long.MAX_VALUE - 99) / 100;
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code amount} is not a plain
+     *                                  decimal with at most two significant
+     *                                  fraction digits
+     */
+    public static Money parse(CharSequence amount) {
+        return new Money(parseCents(amount));
+    }
+
+    /**
+     * Parses a non-negative decimal amount, e.g. {@code "100"}, {@code "100.5"}
+     * or {@code "100.50"}, into cents. Further fraction digits are accepted only
+     * if they are zeros. Signs, exponents, whitespace and grouping separators are
+     * rejected.
+     *
+     * @throws NullPointerException     if {@code amount} is null
+     * @throws IllegalArgumentException if {@code amount} is not such a decimal,
+     *                                  or does not fit in a {@code long} of
+     *                                  cents
+     */
+    public static long parseCents(CharSequence amount) {
+        int length = amount.length();
+        long units = 0;
+        int i = 0;
+        while (i < length) {
+            char c = amount.charAt(i);
+            if (c == '.') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                throw invalid();
+            }
+            int digit = c - '0';
+            if (units > (MAX_UNITS - digit) / 10) {
+                throw new IllegalArgumentException("Amount is too large");
+            }
+            units = units * 10 + digit;
+            i++;
+        }
+        if (i == 0) {
+            throw invalid();
+        }
+        long fraction = 0;
+        if (i < length) {
+            int start = ++i;
+            if (start == length) {
+                throw invalid();
+            }
+            for (; i < length; i++) {
+                char c = amount.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw invalid();
+                }
+                int digit = c - '0';
+                int position = i - start;
+                if (position == 0) {
+                    fraction = digit * 10L;
+                } else if (position == 1) {
+                    fraction += digit;
+                } else if (digit != 0) {
+                    throw new IllegalArgumentException("Amount cannot have fractions of a cent");
+                }
+            }
+        }
+        return units * 100 + fraction;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * The amount with two decimals, e.g. {@code 100.50}, as sent to the API.
+     */
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+
+    /**
+     * Formats {@code cents} with two decimals, e.g. {@code 100.50}.
+     */
+    public static String format(long cents) {
+        if (cents == Long.MIN_VALUE) {
+            return BigDecimal.valueOf(cents, 2).toPlainString();
+        }
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        StringBuilder builder = new StringBuilder(24);
+        if (cents < 0) {
+            builder.append('-');
+        }
+        builder.append(abs / 100).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Amount must be a valid number");
+    }
+}
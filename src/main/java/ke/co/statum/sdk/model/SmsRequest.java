@@ -0,0 +1,12 @@
+package ke.co.statum.sdk.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A single SMS to be sent.
+ */
+public record SmsRequest(
+        @JsonProperty("phone_number") String phoneNumber,
+        @JsonProperty("sender_id") String senderId,
+        @JsonProperty("message") String message) {
+}
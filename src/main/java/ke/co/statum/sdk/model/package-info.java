@@ -14,6 +14,14 @@
  * information response</li>
  * </ul>
  *
+ * <h2>Bulk Operations</h2>
+ * <ul>
+ * <li>{@link ke.co.statum.sdk.model.SmsRequest} - A single message in a bulk
+ * SMS send</li>
+ * <li>{@link ke.co.statum.sdk.model.BulkResult} - Per-recipient outcome of a
+ * bulk operation</li>
+ * </ul>
+ *
  * @since 1.0.0
  */
 package ke.co.statum.sdk.model;
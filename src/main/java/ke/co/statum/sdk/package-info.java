@@ -26,6 +26,10 @@
  * <li>{@link ke.co.statum.sdk.services.SmsService} - SMS operations</li>
  * <li>{@link ke.co.statum.sdk.services.AccountService} - Account
  * operations</li>
+ * <li>{@link ke.co.statum.sdk.resilience.RateLimiter} - Client-side request
+ * pacing</li>
+ * <li>{@link ke.co.statum.sdk.metrics.StatumMetrics} - Per-request latency
+ * and error metrics</li>
  * </ul>
  *
  * @since 1.0.0
@@ -0,0 +1,199 @@
+package ke.co.statum.sdk.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker guarding a single endpoint.
+ *
+ * <p>
+ * The HTTP layer asks for a permission before each attempt and reports the
+ * outcome and duration afterwards. See {@link CircuitBreakerConfig} for the
+ * state machine.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class CircuitBreaker {
+
+    /**
+     * Breaker states.
+     */
+    public enum State {
+        /** Calls flow normally while outcomes are recorded. */
+        CLOSED,
+        /** Calls fail fast without reaching the network. */
+        OPEN,
+        /** A limited number of probe calls decide whether to close again. */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String endpoint;
+    private final CircuitBreakerConfig config;
+    private final CircuitBreakerListener listener;
+    private final LongSupplier nanoClock;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final byte[] window;
+    private State state = State.CLOSED;
+    private int head;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int halfOpenPermits;
+
+    public CircuitBreaker(String endpoint, CircuitBreakerConfig config, CircuitBreakerListener listener) {
+        this(endpoint, config, listener, System::nanoTime);
+    }
+
+    CircuitBreaker(String endpoint, CircuitBreakerConfig config, CircuitBreakerListener listener,
+            LongSupplier nanoClock) {
+        this.endpoint = endpoint;
+        this.config = config;
+        this.listener = listener;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.openNanos = config.getWaitDurationInOpenState().toNanos();
+        this.window = new byte[Math.max(config.getSlidingWindowSize(), config.getPermittedCallsInHalfOpenState())];
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Asks to make one call. Every granted permission must be followed by exactly
+     * one of {@link #onSuccess(long)}, {@link #onFailure(long)} or
+     * {@link #releasePermission()}.
+     *
+     * @return {@code false} if the call should fail fast
+     */
+    public boolean tryAcquirePermission() {
+        State previous;
+        synchronized (this) {
+            previous = state;
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - openedAt < openNanos) {
+                        return false;
+                    }
+                    moveTo(State.HALF_OPEN);
+                    halfOpenPermits = config.getPermittedCallsInHalfOpenState() - 1;
+                    break;
+                default:
+                    if (halfOpenPermits == 0) {
+                        return false;
+                    }
+                    halfOpenPermits--;
+                    return true;
+            }
+        }
+        notifyListener(previous, State.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * Records a call that reached the API and got a non-failure answer.
+     */
+    public void onSuccess(long durationNanos) {
+        record((byte) 0, durationNanos);
+    }
+
+    /**
+     * Records a call that failed with a network error or a server-side error.
+     */
+    public void onFailure(long durationNanos) {
+        record(FAILED, durationNanos);
+    }
+
+    /**
+     * Gives back a permission whose call was abandoned before an outcome was
+     * known, e.g. because the caller was interrupted.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    private void record(byte outcome, long durationNanos) {
+        if (durationNanos >= slowCallNanos) {
+            outcome |= SLOW;
+        }
+        State previous;
+        State current;
+        synchronized (this) {
+            previous = state;
+            if (state == State.OPEN) {
+                // Late result of a call admitted before the breaker opened.
+                return;
+            }
+            add(outcome);
+            if (state == State.HALF_OPEN) {
+                if (recorded >= config.getPermittedCallsInHalfOpenState()) {
+                    moveTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+                }
+            } else if (recorded >= config.getMinimumNumberOfCalls() && exceedsThresholds()) {
+                moveTo(State.OPEN);
+            }
+            current = state;
+        }
+        if (current != previous) {
+            notifyListener(previous, current);
+        }
+    }
+
+    private void add(byte outcome) {
+        int capacity = state == State.HALF_OPEN
+                ? config.getPermittedCallsInHalfOpenState()
+                : config.getSlidingWindowSize();
+        if (recorded == capacity) {
+            byte evicted = window[head];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        window[head] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        head = (head + 1) % capacity;
+    }
+
+    private boolean exceedsThresholds() {
+        return failures * 100f / recorded >= config.getFailureRateThreshold()
+                || slowCalls * 100f / recorded >= config.getSlowCallRateThreshold();
+    }
+
+    private void moveTo(State next) {
+        state = next;
+        head = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    private void notifyListener(State from, State to) {
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onStateChange(endpoint, from, to);
+        } catch (RuntimeException ignored) {
+            // Listener failures must not affect request handling.
+        }
+    }
+}
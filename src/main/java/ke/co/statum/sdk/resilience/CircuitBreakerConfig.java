@@ -0,0 +1,184 @@
+package ke.co.statum.sdk.resilience;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Thresholds for the per-endpoint {@link CircuitBreaker}.
+ *
+ * <p>
+ * While closed, the breaker keeps the outcome of the last
+ * {@code slidingWindowSize} calls. Once at least {@code minimumNumberOfCalls}
+ * have been recorded and either the failure rate or the slow-call rate reaches
+ * its threshold, the breaker opens and calls fail fast for
+ * {@code waitDurationInOpenState}. It then lets
+ * {@code permittedCallsInHalfOpenState} probe calls through and closes again
+ * only if they stay under both thresholds.
+ * </p>
+ *
+ * <pre>{@code
+ * CircuitBreakerConfig breaker = CircuitBreakerConfig.builder()
+ *         .failureRateThreshold(50)
+ *         .slowCallDuration(Duration.ofSeconds(2))
+ *         .slowCallRateThreshold(80)
+ *         .waitDurationInOpenState(Duration.ofSeconds(15))
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class CircuitBreakerConfig {
+
+    private static final CircuitBreakerConfig DISABLED = new CircuitBreakerConfig(builder(), false);
+
+    private final boolean enabled;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final Duration waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+
+    private CircuitBreakerConfig(Builder builder, boolean enabled) {
+        if (builder.failureRateThreshold <= 0 || builder.failureRateThreshold > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 100]");
+        }
+        if (builder.slowCallRateThreshold <= 0 || builder.slowCallRateThreshold > 100) {
+            throw new IllegalArgumentException("Slow call rate threshold must be in (0, 100]");
+        }
+        if (builder.slidingWindowSize < 1 || builder.minimumNumberOfCalls < 1
+                || builder.permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("Window size, minimum calls and half-open calls must be at least 1");
+        }
+        this.enabled = enabled;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = Objects.requireNonNull(builder.slowCallDuration, "Slow call duration must not be null");
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(builder.minimumNumberOfCalls, builder.slidingWindowSize);
+        this.waitDurationInOpenState = Objects.requireNonNull(builder.waitDurationInOpenState,
+                "Wait duration in open state must not be null");
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A configuration that turns circuit breaking off. This is the default.
+     */
+    public static CircuitBreakerConfig disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Failure percentage, from 0 to 100, at which the breaker opens.
+     */
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Percentage of calls slower than {@link #getSlowCallDuration()}, from 0 to
+     * 100, at which the breaker opens.
+     */
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerConfig}.
+     */
+    public static final class Builder {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+
+        private Builder() {
+        }
+
+        public Builder failureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder slowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Calls taking at least this long count as slow.
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Number of most recent calls the rates are computed over.
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Calls that must be recorded before the rates are evaluated.
+         */
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * How long the breaker fails fast before allowing probe calls.
+         */
+        public Builder waitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+            return this;
+        }
+
+        /**
+         * Number of probe calls let through while half-open.
+         */
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(this, true);
+        }
+    }
+}
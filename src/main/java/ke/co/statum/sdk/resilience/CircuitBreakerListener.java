@@ -0,0 +1,23 @@
+package ke.co.statum.sdk.resilience;
+
+/**
+ * Receives circuit breaker state changes, e.g. to shed load upstream while an
+ * endpoint is failing.
+ *
+ * <p>
+ * Called on the thread that caused the transition, outside of any breaker
+ * lock. Implementations should return quickly.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * @param endpoint the endpoint whose breaker changed, e.g. {@code "/sms"}
+     * @param from     the previous state
+     * @param to       the new state
+     */
+    void onStateChange(String endpoint, CircuitBreaker.State from, CircuitBreaker.State to);
+}
@@ -0,0 +1,173 @@
+package ke.co.statum.sdk.resilience;
+
+/**
+ * Bounds and gains for the per-endpoint {@link ConcurrencyLimiter}.
+ *
+ * <p>
+ * Each endpoint starts with {@code initialLimit} calls allowed in flight. The
+ * limit grows by about one for every limit's worth of calls answered no slower
+ * than {@code latencyTolerance} times the lowest recent round-trip time, and
+ * shrinks by {@code backoffRatio} when an answer is slower than that or the
+ * call was dropped with a 429, a 5xx or a network error. It always stays
+ * between {@code minLimit} and {@code maxLimit}.
+ * </p>
+ *
+ * <pre>{@code
+ * ConcurrencyLimitConfig limit = ConcurrencyLimitConfig.builder()
+ *         .initialLimit(10)
+ *         .maxLimit(100)
+ *         .latencyTolerance(1.5)
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class ConcurrencyLimitConfig {
+
+    private static final ConcurrencyLimitConfig DISABLED = new ConcurrencyLimitConfig(builder(), false);
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int rttWindow;
+
+    private ConcurrencyLimitConfig(Builder builder, boolean enabled) {
+        if (builder.minLimit < 1 || builder.minLimit > builder.initialLimit
+                || builder.initialLimit > builder.maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (!(builder.backoffRatio >= 0.5 && builder.backoffRatio < 1)) {
+            throw new IllegalArgumentException("Backoff ratio must be in [0.5, 1)");
+        }
+        if (!(builder.latencyTolerance > 1)) {
+            throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        }
+        if (builder.rttWindow < 1) {
+            throw new IllegalArgumentException("RTT window must be at least 1");
+        }
+        this.enabled = enabled;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.rttWindow = builder.rttWindow;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A configuration that turns concurrency limiting off. This is the default.
+     */
+    public static ConcurrencyLimitConfig disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Factor the limit is multiplied by on a sign of overload.
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Multiple of the lowest recent round-trip time above which an answer
+     * counts as a sign of queueing.
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * Number of answered calls after which the lowest round-trip time is
+     * measured afresh.
+     */
+    public int getRttWindow() {
+        return rttWindow;
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimitConfig}.
+     */
+    public static final class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private int rttWindow = 500;
+
+        private Builder() {
+        }
+
+        /**
+         * Calls allowed in flight before anything has been measured.
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Factor, from 0.5 inclusive to 1 exclusive, the limit is multiplied by
+         * on a sign of overload.
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Answers slower than this multiple of the lowest recent round-trip
+         * time shrink the limit.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Number of answered calls after which the lowest round-trip time is
+         * measured afresh, so that the baseline follows a changing network.
+         */
+        public Builder rttWindow(int rttWindow) {
+            this.rttWindow = rttWindow;
+            return this;
+        }
+
+        public ConcurrencyLimitConfig build() {
+            return new ConcurrencyLimitConfig(this, true);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package ke.co.statum.sdk.resilience;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive limit on the calls in flight to a single endpoint.
+ *
+ * <p>
+ * The HTTP layer acquires a permit before each attempt and reports the
+ * attempt's round-trip time and outcome afterwards. Calls over the limit wait
+ * in arrival order instead of piling onto an endpoint that is already
+ * queueing. The limit follows additive-increase, multiplicative-decrease:
+ * answers close to the lowest recent round-trip time raise it by about one
+ * per limit's worth of calls, while slow answers and dropped calls cut it by
+ * the configured ratio, at most once per round trip. See
+ * {@link ConcurrencyLimitConfig} for the bounds.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class ConcurrencyLimiter {
+
+    private final String endpoint;
+    private final ConcurrencyLimitConfig config;
+    private final IntConsumer onLimitChange;
+    private final LongSupplier nanoClock;
+
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long minRtt = Long.MAX_VALUE;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples;
+    private long lastDecrease;
+    private boolean decreased;
+
+    /**
+     * @param onLimitChange called with the initial limit, then with every new
+     *                      whole-number limit, or {@code null}
+     */
+    public ConcurrencyLimiter(String endpoint, ConcurrencyLimitConfig config, IntConsumer onLimitChange) {
+        this(endpoint, config, onLimitChange, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(String endpoint, ConcurrencyLimitConfig config, IntConsumer onLimitChange,
+            LongSupplier nanoClock) {
+        this.endpoint = endpoint;
+        this.config = config;
+        this.onLimitChange = onLimitChange;
+        this.nanoClock = nanoClock;
+        this.limit = config.getInitialLimit();
+        notifyListener(config.getInitialLimit());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Calls currently allowed in flight.
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Permits currently held.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Calls waiting for a permit.
+     */
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * Asks for a permit, completing once one is free. Every granted permit must
+     * be followed by exactly one of {@link #onSuccess(long)},
+     * {@link #onDropped(long)} or {@link #release()}. A waiting caller that
+     * gives up cancels the returned future.
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> permit;
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            permit = new CompletableFuture<>();
+            waiters.add(permit);
+        }
+        return permit;
+    }
+
+    /**
+     * Like {@link #acquireAsync()}, but the returned future fails with a
+     * {@link TimeoutException}, and holds no permit, if none is granted within
+     * {@code timeoutNanos}.
+     */
+    public CompletableFuture<Void> acquireAsync(long timeoutNanos) {
+        CompletableFuture<Void> permit = acquireAsync();
+        if (permit.isDone()) {
+            return permit;
+        }
+        // A waiter that times out is done, so it is skipped when permits are
+        // granted; if it was already picked, completing it fails and the
+        // permit is handed on.
+        return permit.orTimeout(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS)
+                .whenComplete((granted, error) -> {
+                    if (error != null) {
+                        synchronized (this) {
+                            waiters.remove(permit);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Blocks until a permit is free.
+     *
+     * @throws InterruptedException if interrupted while waiting, in which case
+     *                              no permit is held
+     */
+    public void acquire() throws InterruptedException {
+        tryAcquire(Long.MAX_VALUE);
+    }
+
+    /**
+     * Blocks until a permit is free or {@code timeoutNanos} have passed.
+     *
+     * @return {@code false}, holding no permit, if the wait timed out
+     * @throws InterruptedException if interrupted while waiting, in which case
+     *                              no permit is held
+     */
+    public boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+        CompletableFuture<Void> permit = acquireAsync();
+        try {
+            if (timeoutNanos == Long.MAX_VALUE) {
+                permit.get();
+            } else {
+                permit.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            if (!giveUp(permit)) {
+                // Granted while we were being interrupted.
+                release();
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            return !giveUp(permit);
+        } catch (ExecutionException | CancellationException e) {
+            throw new IllegalStateException("Permit future failed", e);
+        }
+    }
+
+    /**
+     * Withdraws a waiter.
+     *
+     * @return {@code false} if the permit was granted meanwhile and is now held
+     */
+    private boolean giveUp(CompletableFuture<Void> permit) {
+        if (permit.cancel(false)) {
+            synchronized (this) {
+                waiters.remove(permit);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Releases a permit whose call was answered, recording its round-trip time.
+     */
+    public void onSuccess(long rttNanos) {
+        complete(rttNanos, false);
+    }
+
+    /**
+     * Releases a permit whose call was dropped or throttled by the endpoint,
+     * e.g. with a 429, a 5xx or a timeout. The limit shrinks.
+     */
+    public void onDropped(long rttNanos) {
+        complete(rttNanos, true);
+    }
+
+    /**
+     * Releases a permit without recording anything, for calls abandoned before
+     * an answer or whose answer says nothing about load, such as a 4xx.
+     */
+    public void release() {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = grantWaiters();
+        }
+        complete(granted);
+    }
+
+    private void complete(long rttNanos, boolean dropped) {
+        int before;
+        int after;
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            // Only calls that used most of the limit say anything about whether
+            // more would fit.
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+            before = (int) limit;
+            long now = nanoClock.getAsLong();
+            if (!dropped) {
+                minRtt = Math.min(minRtt, rttNanos);
+                windowMinRtt = Math.min(windowMinRtt, rttNanos);
+                if (++windowSamples >= config.getRttWindow()) {
+                    minRtt = windowMinRtt;
+                    windowMinRtt = Long.MAX_VALUE;
+                    windowSamples = 0;
+                }
+            }
+            if (dropped || rttNanos > minRtt * config.getLatencyTolerance()) {
+                long sinceDecrease = now - lastDecrease;
+                if (!decreased || sinceDecrease >= Math.min(minRtt, rttNanos)) {
+                    limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+                    lastDecrease = now;
+                    decreased = true;
+                }
+            } else if (saturated) {
+                limit = Math.min(config.getMaxLimit(), limit + 1 / limit);
+            }
+            after = (int) limit;
+            granted = grantWaiters();
+        }
+        if (after != before) {
+            notifyListener(after);
+        }
+        complete(granted);
+    }
+
+    private List<CompletableFuture<Void>> grantWaiters() {
+        List<CompletableFuture<Void>> granted = null;
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter.isDone()) {
+                continue;
+            }
+            inFlight++;
+            if (granted == null) {
+                granted = new ArrayList<>();
+            }
+            granted.add(waiter);
+        }
+        return granted;
+    }
+
+    /**
+     * Completes granted permits outside the lock, since completion runs the
+     * waiting call's continuation.
+     */
+    private void complete(List<CompletableFuture<Void>> granted) {
+        if (granted == null) {
+            return;
+        }
+        for (CompletableFuture<Void> waiter : granted) {
+            if (!waiter.complete(null)) {
+                // Cancelled after being picked; hand the permit on.
+                release();
+            }
+        }
+    }
+
+    private void notifyListener(int newLimit) {
+        if (onLimitChange == null) {
+            return;
+        }
+        try {
+            onLimitChange.accept(newLimit);
+        } catch (RuntimeException ignored) {
+            // Listener failures must not affect request handling.
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ke.co.statum.sdk.resilience;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Paces outgoing requests, with a separate budget per API endpoint.
+ *
+ * <p>
+ * The HTTP layer acquires one permit before every request. Blocking calls use
+ * {@link #acquire(String)}; async calls use {@link #acquireAsync(String)}, which
+ * delays the request without holding a thread while it waits.
+ * </p>
+ *
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @see TokenBucketRateLimiter
+ * @since 1.1.0
+ */
+public interface RateLimiter {
+
+    /**
+     * Blocks until a permit for {@code endpoint} is available.
+     *
+     * @param endpoint the API endpoint, e.g. {@code "/sms"}
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void acquire(String endpoint) throws InterruptedException;
+
+    /**
+     * Returns a future that completes once a permit for {@code endpoint} is
+     * available.
+     *
+     * @param endpoint the API endpoint, e.g. {@code "/sms"}
+     */
+    CompletableFuture<Void> acquireAsync(String endpoint);
+
+    /**
+     * Like {@link #acquire(String)}, but takes no permit and returns
+     * {@code false} if none would be available within {@code timeoutNanos}.
+     * The HTTP layer uses it to keep rate-limit waits within a call's deadline.
+     *
+     * <p>
+     * The default waits for {@link #acquire(String)} and returns {@code true};
+     * limiters that know their wait up front should override it.
+     * </p>
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    default boolean tryAcquire(String endpoint, long timeoutNanos) throws InterruptedException {
+        acquire(endpoint);
+        return true;
+    }
+
+    /**
+     * Non-blocking variant of {@link #tryAcquire(String, long)}. The default
+     * completes with {@code true} once {@link #acquireAsync(String)} does.
+     */
+    default CompletableFuture<Boolean> tryAcquireAsync(String endpoint, long timeoutNanos) {
+        return acquireAsync(endpoint).thenApply(permit -> true);
+    }
+
+    /**
+     * A limiter that never delays requests. This is the default.
+     */
+    static RateLimiter unlimited() {
+        return UnlimitedRateLimiter.INSTANCE;
+    }
+}
@@ -0,0 +1,231 @@
+package ke.co.statum.sdk.resilience;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes when and how often a failed request is re-sent.
+ *
+ * <p>
+ * A request is retried when it fails with a network error or when the API
+ * answers with one of the {@linkplain Builder#retryableStatusCodes(Set)
+ * retryable status codes}, as long as attempts remain. The delay before retry
+ * {@code n} is {@code initialBackoff * multiplier^(n-1)}, capped at
+ * {@code maxBackoff}, then reduced by a random amount of up to
+ * {@code jitter} of its value so that many clients do not retry in lockstep.
+ * When the response carries a {@code Retry-After} header the SDK waits at
+ * least that long.
+ * </p>
+ *
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.builder()
+ *         .maxAttempts(5)
+ *         .initialBackoff(Duration.ofMillis(100))
+ *         .maxBackoff(Duration.ofSeconds(5))
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class RetryPolicy {
+
+    /**
+     * Status codes retried by default: too many requests, bad gateway, service
+     * unavailable and gateway timeout.
+     */
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Set.of(429, 502, 503, 504);
+
+    private static final RetryPolicy NONE = builder().maxAttempts(1).build();
+    private static final RetryPolicy DEFAULTS = builder().build();
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryOnNetworkErrors;
+    private final boolean respectRetryAfter;
+    private final Duration maxRetryAfter;
+
+    private RetryPolicy(Builder builder) {
+        if (builder.maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        if (builder.multiplier < 1.0) {
+            throw new IllegalArgumentException("Multiplier must be at least 1.0");
+        }
+        if (builder.jitter < 0.0 || builder.jitter > 1.0) {
+            throw new IllegalArgumentException("Jitter must be between 0.0 and 1.0");
+        }
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = Objects.requireNonNull(builder.initialBackoff, "Initial backoff must not be null");
+        this.maxBackoff = Objects.requireNonNull(builder.maxBackoff, "Max backoff must not be null");
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryOnNetworkErrors = builder.retryOnNetworkErrors;
+        this.respectRetryAfter = builder.respectRetryAfter;
+        this.maxRetryAfter = Objects.requireNonNull(builder.maxRetryAfter, "Max Retry-After must not be null");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A policy that never retries.
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Three attempts with exponential backoff from 200ms, retrying network errors
+     * and {@link #DEFAULT_RETRYABLE_STATUS_CODES}.
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    public boolean isRetryOnNetworkErrors() {
+        return retryOnNetworkErrors;
+    }
+
+    public boolean isRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * Computes the jittered delay before the given retry.
+     *
+     * @param retry the retry number, starting at 1 for the second attempt
+     * @return the delay in nanoseconds
+     */
+    public long backoffNanos(int retry) {
+        double base = initialBackoff.toNanos() * Math.pow(multiplier, retry - 1);
+        double capped = Math.min(base, maxBackoff.toNanos());
+        double reduction = jitter == 0.0 ? 0.0 : capped * jitter * ThreadLocalRandom.current().nextDouble();
+        return (long) (capped - reduction);
+    }
+
+    /**
+     * Builder for {@link RetryPolicy}. Unset options take the values used by
+     * {@link RetryPolicy#defaults()}.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private double multiplier = 2.0;
+        private double jitter = 0.5;
+        private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+        private boolean retryOnNetworkErrors = true;
+        private boolean respectRetryAfter = true;
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+
+        private Builder() {
+        }
+
+        /**
+         * Total number of attempts, including the first one.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Fraction of each delay, between 0.0 and 1.0, that may be randomly
+         * removed.
+         */
+        public Builder jitter(double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder retryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = Objects.requireNonNull(retryableStatusCodes,
+                    "Retryable status codes must not be null");
+            return this;
+        }
+
+        /**
+         * Whether connection failures, resets and timeouts are retried.
+         */
+        public Builder retryOnNetworkErrors(boolean retryOnNetworkErrors) {
+            this.retryOnNetworkErrors = retryOnNetworkErrors;
+            return this;
+        }
+
+        /**
+         * Whether a {@code Retry-After} header extends the computed backoff.
+         */
+        public Builder respectRetryAfter(boolean respectRetryAfter) {
+            this.respectRetryAfter = respectRetryAfter;
+            return this;
+        }
+
+        /**
+         * Longest {@code Retry-After} the SDK is willing to wait. If the API asks
+         * for more, the error is returned to the caller instead.
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
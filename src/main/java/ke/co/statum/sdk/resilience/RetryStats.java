@@ -0,0 +1,110 @@
+package ke.co.statum.sdk.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running counters describing how often requests were retried and how much
+ * latency the retries added.
+ *
+ * <p>
+ * One instance is kept per client and updated concurrently by every request.
+ * Reads are cheap and never block writers, but values read one after another
+ * are not a consistent snapshot.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class RetryStats {
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recoveredCalls = new LongAdder();
+    private final LongAdder exhaustedCalls = new LongAdder();
+    private final LongAdder backoffNanos = new LongAdder();
+    private final LongAdder retryLatencyNanos = new LongAdder();
+
+    /**
+     * Records one HTTP attempt, including first attempts.
+     */
+    public void recordAttempt() {
+        attempts.increment();
+    }
+
+    /**
+     * Records that a retry was scheduled after waiting {@code delayNanos}.
+     */
+    public void recordRetry(long delayNanos) {
+        retries.increment();
+        backoffNanos.add(delayNanos);
+    }
+
+    /**
+     * Records the end of a call that needed at least one retry.
+     *
+     * @param succeeded    whether the final attempt succeeded
+     * @param exhausted    whether the call gave up on a retryable failure
+     * @param latencyNanos time between the end of the first attempt and the end
+     *                     of the call
+     */
+    public void recordRetriedCall(boolean succeeded, boolean exhausted, long latencyNanos) {
+        if (succeeded) {
+            recoveredCalls.increment();
+        } else if (exhausted) {
+            exhaustedCalls.increment();
+        }
+        retryLatencyNanos.add(latencyNanos);
+    }
+
+    /**
+     * Records a call that gave up on a retryable failure without retrying, for
+     * example because the policy allows a single attempt.
+     */
+    public void recordExhausted() {
+        exhaustedCalls.increment();
+    }
+
+    /**
+     * Total HTTP attempts, first attempts included.
+     */
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * Number of retries performed.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Calls that failed at first but succeeded on a retry.
+     */
+    public long getRecoveredCalls() {
+        return recoveredCalls.sum();
+    }
+
+    /**
+     * Calls that still failed with a retryable error when the policy stopped
+     * retrying.
+     */
+    public long getExhaustedCalls() {
+        return exhaustedCalls.sum();
+    }
+
+    /**
+     * Total time spent waiting between attempts.
+     */
+    public Duration getBackoffTime() {
+        return Duration.ofNanos(backoffNanos.sum());
+    }
+
+    /**
+     * Total latency added by retries: for every retried call, the time from the
+     * end of its first attempt to its completion.
+     */
+    public Duration getRetryLatency() {
+        return Duration.ofNanos(retryLatencyNanos.sum());
+    }
+}
@@ -0,0 +1,226 @@
+package ke.co.statum.sdk.resilience;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket {@link RateLimiter} with an independent bucket per endpoint.
+ *
+ * <p>
+ * Each bucket refills at a steady rate up to a burst capacity. Callers that
+ * arrive when the bucket is empty reserve a future token and wait for it, so
+ * requests are released in arrival order at exactly the configured rate rather
+ * than being rejected.
+ * </p>
+ *
+ * <pre>{@code
+ * RateLimiter limiter = TokenBucketRateLimiter.builder()
+ *         .limit("/sms", 50, 100)       // 50 req/s, bursts of up to 100
+ *         .limit("/airtime", 10, 10)
+ *         .defaultLimit(5, 5)           // every other endpoint
+ *         .build();
+ *
+ * StatumConfig config = StatumConfig.builder(key, secret)
+ *         .rateLimiter(limiter)
+ *         .build();
+ * }</pre>
+ *
+ * <p>
+ * Endpoints without an explicit limit and no default limit are not throttled.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class TokenBucketRateLimiter implements RateLimiter {
+
+    private final Map<String, Bucket> buckets;
+    private final Limit defaultLimit;
+    private final Map<String, Bucket> defaultBuckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    private TokenBucketRateLimiter(Builder builder, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.defaultLimit = builder.defaultLimit;
+        Map<String, Bucket> configured = new HashMap<>();
+        builder.limits.forEach((endpoint, limit) -> configured.put(endpoint, new Bucket(limit, nanoClock)));
+        this.buckets = Map.copyOf(configured);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void acquire(String endpoint) throws InterruptedException {
+        tryAcquire(endpoint, Long.MAX_VALUE);
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(String endpoint) {
+        return delay(reserve(endpoint));
+    }
+
+    @Override
+    public boolean tryAcquire(String endpoint, long timeoutNanos) throws InterruptedException {
+        Bucket bucket = bucketFor(normalize(endpoint));
+        if (bucket == null) {
+            return true;
+        }
+        long waitNanos = bucket.reserve(timeoutNanos);
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                bucket.refund();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquireAsync(String endpoint, long timeoutNanos) {
+        long waitNanos = reserve(endpoint, timeoutNanos);
+        if (waitNanos < 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return delay(waitNanos).thenApply(permit -> true);
+    }
+
+    private static CompletableFuture<Void> delay(long waitNanos) {
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Takes a token for {@code endpoint} and returns how long the caller must
+     * wait before using it.
+     */
+    long reserve(String endpoint) {
+        return reserve(endpoint, Long.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #reserve(String)}, but takes nothing and returns -1 if the
+     * wait would exceed {@code timeoutNanos}.
+     */
+    long reserve(String endpoint, long timeoutNanos) {
+        Bucket bucket = bucketFor(normalize(endpoint));
+        return bucket == null ? 0 : bucket.reserve(timeoutNanos);
+    }
+
+    private Bucket bucketFor(String endpoint) {
+        Bucket bucket = buckets.get(endpoint);
+        if (bucket != null || defaultLimit == null) {
+            return bucket;
+        }
+        return defaultBuckets.computeIfAbsent(endpoint, key -> new Bucket(defaultLimit, nanoClock));
+    }
+
+    static String normalize(String endpoint) {
+        return endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+    }
+
+    private record Limit(double permitsPerSecond, int burst) {
+    }
+
+    private static final class Bucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private final LongSupplier nanoClock;
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(Limit limit, LongSupplier nanoClock) {
+            this.permitsPerNano = limit.permitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = limit.burst();
+            this.nanoClock = nanoClock;
+            this.tokens = capacity;
+            this.lastRefill = nanoClock.getAsLong();
+        }
+
+        synchronized long reserve(long timeoutNanos) {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            // A negative balance is a queue of callers waiting for future tokens.
+            double remaining = tokens - 1;
+            long waitNanos = remaining >= 0 ? 0 : (long) Math.ceil(-remaining / permitsPerNano);
+            if (waitNanos > timeoutNanos) {
+                return -1;
+            }
+            tokens = remaining;
+            return waitNanos;
+        }
+
+        /**
+         * Gives back a token reserved by a caller that stopped waiting for it.
+         */
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+
+    /**
+     * Builder for {@link TokenBucketRateLimiter}.
+     */
+    public static final class Builder {
+        private final Map<String, Limit> limits = new HashMap<>();
+        private Limit defaultLimit;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the budget for one endpoint.
+         *
+         * @param endpoint         the API endpoint, e.g. {@code "/sms"}
+         * @param permitsPerSecond sustained request rate
+         * @param burst            how many requests may be sent back-to-back after
+         *                         an idle period
+         */
+        public Builder limit(String endpoint, double permitsPerSecond, int burst) {
+            Objects.requireNonNull(endpoint, "Endpoint must not be null");
+            limits.put(normalize(endpoint), toLimit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Sets the budget applied, separately, to every endpoint without its own
+         * {@link #limit(String, double, int)}.
+         */
+        public Builder defaultLimit(double permitsPerSecond, int burst) {
+            this.defaultLimit = toLimit(permitsPerSecond, burst);
+            return this;
+        }
+
+        public TokenBucketRateLimiter build() {
+            return new TokenBucketRateLimiter(this, System::nanoTime);
+        }
+
+        TokenBucketRateLimiter build(LongSupplier nanoClock) {
+            return new TokenBucketRateLimiter(this, nanoClock);
+        }
+
+        private static Limit toLimit(double permitsPerSecond, int burst) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("Permits per second must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("Burst must be at least 1");
+            }
+            return new Limit(permitsPerSecond, burst);
+        }
+    }
+}
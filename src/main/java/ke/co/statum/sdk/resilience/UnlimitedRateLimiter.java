@@ -0,0 +1,19 @@
+package ke.co.statum.sdk.resilience;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * No-op limiter backing {@link RateLimiter#unlimited()}.
+ */
+enum UnlimitedRateLimiter implements RateLimiter {
+    INSTANCE;
+
+    @Override
+    public void acquire(String endpoint) {
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(String endpoint) {
+        return CompletableFuture.completedFuture(null);
+    }
+}
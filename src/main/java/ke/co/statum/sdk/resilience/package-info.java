@@ -0,0 +1,22 @@
+/**
+ * Client-side traffic control for calls made through the SDK.
+ *
+ * <p>
+ * These components are configured on
+ * {@link ke.co.statum.sdk.config.StatumConfig} and applied by the HTTP layer to
+ * every request:
+ * </p>
+ * <ul>
+ * <li>{@link ke.co.statum.sdk.resilience.RateLimiter} - Paces requests so they
+ * stay under the API's throttling limits</li>
+ * <li>{@link ke.co.statum.sdk.resilience.RetryPolicy} - Re-sends requests that
+ * failed transiently, with exponential backoff and jitter</li>
+ * <li>{@link ke.co.statum.sdk.resilience.CircuitBreaker} - Fails fast while an
+ * endpoint is failing or slow, probing it until it recovers</li>
+ * <li>{@link ke.co.statum.sdk.resilience.ConcurrencyLimiter} - Caps the calls in
+ * flight to an endpoint, adapting the cap to its observed latency</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ */
+package ke.co.statum.sdk.resilience;
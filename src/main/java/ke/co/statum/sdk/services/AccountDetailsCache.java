@@ -0,0 +1,227 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.Organization;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in cache in front of {@link AccountService#getAccountDetails()}.
+ *
+ * <p>
+ * A fetched response is served for the configured time-to-live. Concurrent
+ * callers that find the cache empty or expired share a single request rather
+ * than each calling {@code /account-details}. Once an entry is within the
+ * refresh-ahead window of expiring, the next read returns it immediately and
+ * starts a refresh in the background, so steady traffic never waits on the
+ * network. A failed refresh is not cached: the previous entry keeps being
+ * served until it expires.
+ * </p>
+ *
+ * <pre>{@code
+ * AccountDetailsCache accounts = AccountDetailsCache.builder(client.getAccountService())
+ *         .ttl(Duration.ofSeconds(30))
+ *         .refreshAhead(Duration.ofSeconds(5))
+ *         .build();
+ *
+ * if (accounts.getCachedBalance().orElse(0) < campaignCost) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class AccountDetailsCache {
+
+    private final AccountService accountService;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Entry> entry = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AccountDetailsResponse>> inFlight = new AtomicReference<>();
+    /** Bumped by {@link #invalidate()}; entries fetched under an older value are ignored. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private AccountDetailsCache(Builder builder, Duration refreshAhead) {
+        this.accountService = builder.accountService;
+        this.ttlNanos = builder.ttl.toNanos();
+        this.refreshAfterNanos = ttlNanos - refreshAhead.toNanos();
+        this.nanoClock = builder.nanoClock;
+    }
+
+    public static Builder builder(AccountService accountService) {
+        return new Builder(accountService);
+    }
+
+    /**
+     * Returns the cached account details, fetching them if there is no live
+     * entry.
+     *
+     * @throws ke.co.statum.sdk.exceptions.ApiException if a fetch was needed and
+     *                                                  failed
+     */
+    public AccountDetailsResponse get() {
+        try {
+            return getAsync().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NetworkException("Request failed", cause);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get()}. Completes immediately when a live
+     * entry is cached.
+     */
+    public CompletableFuture<AccountDetailsResponse> getAsync() {
+        Entry current = currentEntry();
+        long now = nanoClock.getAsLong();
+        if (current == null || now - current.fetchedAt >= ttlNanos) {
+            return refresh();
+        }
+        if (now - current.fetchedAt >= refreshAfterNanos) {
+            refresh();
+        }
+        return CompletableFuture.completedFuture(current.response);
+    }
+
+    /**
+     * Returns the available balance from the cached entry without blocking. If
+     * the entry is due for refresh, or missing or expired, a background fetch is
+     * started and this call returns what is cached right now.
+     *
+     * @return the balance, or empty if nothing live is cached yet
+     */
+    public OptionalDouble getCachedBalance() {
+        Entry current = currentEntry();
+        long now = nanoClock.getAsLong();
+        if (current == null || now - current.fetchedAt >= refreshAfterNanos) {
+            refresh();
+        }
+        if (current == null || now - current.fetchedAt >= ttlNanos) {
+            return OptionalDouble.empty();
+        }
+        Organization organization = current.response.organization();
+        if (organization == null || organization.details() == null) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(organization.details().availableBalance());
+    }
+
+    /**
+     * Discards the cached entry, e.g. after a top-up, so that the next read
+     * fetches fresh details. A fetch already in flight may predate the change,
+     * so its result is not cached; callers already waiting on it still get it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entry.set(null);
+        inFlight.set(null);
+    }
+
+    private Entry currentEntry() {
+        Entry current = entry.get();
+        return current != null && current.generation == generation.get() ? current : null;
+    }
+
+    /**
+     * Starts a fetch unless one is already running, and returns the running one.
+     */
+    private CompletableFuture<AccountDetailsResponse> refresh() {
+        while (true) {
+            CompletableFuture<AccountDetailsResponse> pending = inFlight.get();
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<AccountDetailsResponse> fetch = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, fetch)) {
+                long startedAt = nanoClock.getAsLong();
+                long startedIn = generation.get();
+                CompletableFuture<AccountDetailsResponse> request;
+                try {
+                    request = accountService.getAccountDetailsAsync();
+                } catch (RuntimeException e) {
+                    request = CompletableFuture.failedFuture(e);
+                }
+                request.whenComplete((response, error) -> {
+                    if (error == null && generation.get() == startedIn) {
+                        // Age the entry from when the request started, never later. An
+                        // invalidate() racing with this is caught by currentEntry().
+                        entry.set(new Entry(response, startedAt, startedIn));
+                    }
+                    inFlight.compareAndSet(fetch, null);
+                    if (error == null) {
+                        fetch.complete(response);
+                    } else {
+                        fetch.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error);
+                    }
+                });
+                return fetch;
+            }
+        }
+    }
+
+    private record Entry(AccountDetailsResponse response, long fetchedAt, long generation) {
+    }
+
+    /**
+     * Builder for {@link AccountDetailsCache}.
+     */
+    public static final class Builder {
+        private final AccountService accountService;
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration refreshAhead;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        private Builder(AccountService accountService) {
+            this.accountService = Objects.requireNonNull(accountService, "Account service must not be null");
+        }
+
+        /**
+         * How long a fetched response is served. Defaults to 30 seconds.
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * How long before expiry a read starts a background refresh. Defaults to
+         * a fifth of the TTL; {@link Duration#ZERO} disables refresh-ahead.
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public AccountDetailsCache build() {
+            Objects.requireNonNull(ttl, "TTL must not be null");
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("TTL must be positive");
+            }
+            Duration ahead = refreshAhead != null ? refreshAhead : ttl.dividedBy(5);
+            if (ahead.isNegative() || ahead.compareTo(ttl) >= 0) {
+                throw new IllegalArgumentException("Refresh-ahead must be at least zero and shorter than the TTL");
+            }
+            return new AccountDetailsCache(this, ahead);
+        }
+    }
+}
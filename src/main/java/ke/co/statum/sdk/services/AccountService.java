@@ -1,8 +1,11 @@
 package ke.co.statum.sdk.services;
 
+import ke.co.statum.sdk.config.RequestOptions;
 import ke.co.statum.sdk.http.HttpClientProvider;
 import ke.co.statum.sdk.model.AccountDetailsResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class AccountService {
 
     private final HttpClientProvider httpClient;
@@ -14,4 +17,27 @@ public class AccountService {
     public AccountDetailsResponse getAccountDetails() {
         return httpClient.get("/account-details", AccountDetailsResponse.class);
     }
+
+    /**
+     * Fetches account details with per-call timeout overrides.
+     *
+     * @see RequestOptions#withResponseTimeout(java.time.Duration)
+     */
+    public AccountDetailsResponse getAccountDetails(RequestOptions options) {
+        return httpClient.get("/account-details", AccountDetailsResponse.class, options);
+    }
+
+    /**
+     * Fetches account details without blocking the calling thread.
+     */
+    public CompletableFuture<AccountDetailsResponse> getAccountDetailsAsync() {
+        return httpClient.getAsync("/account-details", AccountDetailsResponse.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #getAccountDetails(RequestOptions)}.
+     */
+    public CompletableFuture<AccountDetailsResponse> getAccountDetailsAsync(RequestOptions options) {
+        return httpClient.getAsync("/account-details", AccountDetailsResponse.class, options);
+    }
 }
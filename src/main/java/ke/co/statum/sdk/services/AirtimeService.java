@@ -1,18 +1,23 @@
 package ke.co.statum.sdk.services;
 
+import ke.co.statum.sdk.config.RequestOptions;
 import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.model.AirtimeRequest;
 import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.DisbursementReport;
+import ke.co.statum.sdk.model.Money;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 public class AirtimeService {
 
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^(?:\\+254|254|0)(7|1)[0-9]{8}$");
-    private static final double MIN_AMOUNT = 5.0;
-    private static final double MAX_AMOUNT = 10000.0;
+    private static final long MIN_CENTS = 500;
+    private static final long MAX_CENTS = 1_000_000;
 
     private final HttpClientProvider httpClient;
 
@@ -21,45 +26,183 @@ public class AirtimeService {
     }
 
     public ApiResponse sendAirtime(String phoneNumber, String amount) {
+        return httpClient.post("/airtime", buildRequest(phoneNumber, amount), ApiResponse.class);
+    }
+
+    /**
+     * Sends airtime with per-call options. Supplying an idempotency key makes it
+     * safe to call again after a timeout: the key is reused on every retry, and a
+     * repeat within the idempotency window returns the original result.
+     *
+     * @see RequestOptions#withIdempotencyKey(String)
+     * @see RequestOptions#withDeadline(java.time.Duration)
+     */
+    public ApiResponse sendAirtime(String phoneNumber, String amount, RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.post("/airtime", buildRequest(phoneNumber, amount), ApiResponse.class, options);
+    }
+
+    /**
+     * Sends airtime without blocking the calling thread.
+     *
+     * <p>
+     * Arguments are validated eagerly, so invalid input throws before any request
+     * is made. API and network failures complete the returned future exceptionally
+     * with the same exceptions {@link #sendAirtime(String, String)} throws.
+     * </p>
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, String amount) {
+        return httpClient.postAsync("/airtime", buildRequest(phoneNumber, amount), ApiResponse.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendAirtime(String, String, RequestOptions)}.
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, String amount,
+            RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.postAsync("/airtime", buildRequest(phoneNumber, amount), ApiResponse.class, options);
+    }
+
+    /**
+     * Sends airtime for an amount given in cents, e.g. {@code 10_050} for KES
+     * 100.50. The amount is range-checked as an integer and never parsed.
+     */
+    public ApiResponse sendAirtime(String phoneNumber, long amountCents) {
+        return httpClient.post("/airtime", buildRequest(phoneNumber, amountCents), ApiResponse.class);
+    }
+
+    /**
+     * Variant of {@link #sendAirtime(String, long)} with per-call options.
+     */
+    public ApiResponse sendAirtime(String phoneNumber, long amountCents, RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.post("/airtime", buildRequest(phoneNumber, amountCents), ApiResponse.class, options);
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendAirtime(String, long)}.
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, long amountCents) {
+        return httpClient.postAsync("/airtime", buildRequest(phoneNumber, amountCents), ApiResponse.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendAirtime(String, long, RequestOptions)}.
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, long amountCents,
+            RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.postAsync("/airtime", buildRequest(phoneNumber, amountCents), ApiResponse.class,
+                options);
+    }
+
+    /**
+     * Sends airtime to every recipient in {@code requests}, keeping at most
+     * {@link BulkOptions#getMaxConcurrency()} requests in flight, and totals
+     * what was disbursed.
+     *
+     * <p>
+     * The whole batch is validated before anything is sent: if any recipient
+     * has an invalid phone number or amount, this throws and no airtime is
+     * sent. Once sending starts, a failed recipient never aborts the rest of
+     * the run. The returned future completes with a report that puts every
+     * recipient in exactly one of the disbursed, rejected and unconfirmed
+     * buckets.
+     * </p>
+     *
+     * @param requests the recipients; must not be modified while the run is in
+     *                 progress
+     * @param options  concurrency and result-retention settings
+     * @throws IllegalArgumentException if any recipient is invalid; the message
+     *                                  lists the first offending indices
+     */
+    public CompletableFuture<DisbursementReport> disburse(Collection<AirtimeRequest> requests,
+            BulkOptions options) {
+        return disburse(requests, options, null);
+    }
+
+    /**
+     * Like {@link #disburse(Collection, BulkOptions)}, additionally streaming each
+     * recipient's result to {@code onResult} as soon as it completes.
+     *
+     * <p>
+     * The listener may be invoked concurrently from HTTP client threads and should
+     * return quickly. Exceptions it throws are ignored.
+     * </p>
+     */
+    public CompletableFuture<DisbursementReport> disburse(Collection<AirtimeRequest> requests,
+            BulkOptions options, Consumer<? super BulkResult<AirtimeRequest>> onResult) {
+        Objects.requireNonNull(requests, "Requests cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+        return Disbursement.run(this, requests, options, onResult);
+    }
+
+    /**
+     * Sends airtime for every request {@code requests} publishes and publishes
+     * one {@link BulkResult} per request as it completes.
+     *
+     * <p>
+     * Backpressure works as for
+     * {@link SmsService#sendStream(Flow.Publisher, BulkOptions)}: upstream is
+     * asked for more only as sends complete and downstream demand allows, with
+     * at most {@link BulkOptions#getMaxConcurrency()} in flight. Each request is
+     * validated as it arrives; an invalid one yields a failed result.
+     * </p>
+     */
+    public Flow.Publisher<BulkResult<AirtimeRequest>> sendStream(Flow.Publisher<? extends AirtimeRequest> requests,
+            BulkOptions options) {
+        return new SendPublisher<AirtimeRequest>(requests, options,
+                request -> sendAirtimeAsync(request.phoneNumber(), request.amount()));
+    }
+
+    /**
+     * Sends a request that has already been validated.
+     */
+    CompletableFuture<ApiResponse> sendAsync(AirtimeRequest request) {
+        return httpClient.postAsync("/airtime", request, ApiResponse.class);
+    }
+
+    AirtimeRequest buildRequest(String phoneNumber, String amount) {
         Objects.requireNonNull(phoneNumber, "Phone number cannot be null");
         Objects.requireNonNull(amount, "Amount cannot be null");
 
-        // Validate phone number format
-        validatePhoneNumber(phoneNumber);
+        // Validate phone number format and send it in E.164 form
+        String recipient = PhoneNumbers.normalize(phoneNumber);
 
         // Validate amount
         validateAmount(amount);
 
-        Map<String, String> request = new HashMap<>();
-        request.put("phone_number", phoneNumber);
-        request.put("amount", amount);
-
-        return httpClient.post("/airtime", request, ApiResponse.class);
+        return new AirtimeRequest(recipient, amount);
     }
 
-    private void validatePhoneNumber(String phoneNumber) {
-        if (!PHONE_PATTERN.matcher(phoneNumber).matches()) {
-            throw new IllegalArgumentException(
-                    "Invalid phone number format. Expected Kenyan number like +254712345678, 254712345678, or 0712345678");
-        }
+    AirtimeRequest buildRequest(String phoneNumber, long amountCents) {
+        Objects.requireNonNull(phoneNumber, "Phone number cannot be null");
+        String recipient = PhoneNumbers.normalize(phoneNumber);
+        validateCents(amountCents);
+        return new AirtimeRequest(recipient, Money.format(amountCents));
     }
 
-    private void validateAmount(String amount) {
-        double value;
-        try {
-            value = Double.parseDouble(amount);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Amount must be a valid number", e);
-        }
+    /**
+     * Parses and range-checks {@code amount}.
+     *
+     * @return the amount in cents
+     */
+    long validateAmount(String amount) {
+        long cents = Money.parseCents(amount);
+        validateCents(cents);
+        return cents;
+    }
 
-        if (value < MIN_AMOUNT) {
+    void validateCents(long cents) {
+        if (cents < MIN_CENTS) {
             throw new IllegalArgumentException(
-                    String.format("Amount must be at least KES %.2f (got: %.2f)", MIN_AMOUNT, value));
+                    "Amount must be at least KES " + Money.format(MIN_CENTS) + " (got: " + Money.format(cents) + ")");
         }
 
-        if (value > MAX_AMOUNT) {
+        if (cents > MAX_CENTS) {
             throw new IllegalArgumentException(
-                    String.format("Amount cannot exceed KES %.2f (got: %.2f)", MAX_AMOUNT, value));
+                    "Amount cannot exceed KES " + Money.format(MAX_CENTS) + " (got: " + Money.format(cents) + ")");
         }
     }
 }
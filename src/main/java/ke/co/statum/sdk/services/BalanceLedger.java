@@ -0,0 +1,378 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.InsufficientBalanceException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.Organization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Local view of the organization's balance that lets airtime sends be checked
+ * for affordability without calling {@code /account-details} first.
+ *
+ * <p>
+ * The ledger is seeded from {@code OrganizationDetails.availableBalance} and
+ * tracks it in cents with lock-free counters. A send first reserves its amount,
+ * failing fast with {@link InsufficientBalanceException} if that would
+ * overdraw, and settles the reservation once the outcome is known: a rejected
+ * send gives the amount back, and any send that got a response spends it. Sends
+ * whose outcome is unknown, such as network failures and 5xx responses, are
+ * treated as spent.
+ * The ledger therefore errs towards under-reporting the balance until the next
+ * re-sync, which happens in the background once the re-sync interval has
+ * passed.
+ * </p>
+ *
+ * <pre>{@code
+ * BalanceLedger ledger = BalanceLedger.builder(client.getAccountService(), client.getAirtimeService())
+ *         .resyncInterval(Duration.ofMinutes(1))
+ *         .build();
+ *
+ * ledger.sendAirtime("254712345678", "100"); // throws InsufficientBalanceException locally
+ * }</pre>
+ *
+ * <p>
+ * The server stays authoritative: spends made outside this ledger, e.g. by
+ * another process, only show up after a re-sync.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class BalanceLedger {
+
+    private final AccountService accountService;
+    private final AirtimeService airtimeService;
+    private final long resyncNanos;
+    private final LongSupplier nanoClock;
+    private final Runnable settleHook;
+
+    /** Balance minus outstanding reservations, in cents. */
+    private final AtomicLong available = new AtomicLong();
+    private final AtomicLong reserved = new AtomicLong();
+    /** Running total of committed spends, used to reconcile re-syncs. */
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicReference<CompletableFuture<Void>> syncing = new AtomicReference<>();
+    private volatile long syncedAt;
+    private volatile boolean seeded;
+
+    private BalanceLedger(Builder builder) {
+        this.accountService = builder.accountService;
+        this.airtimeService = builder.airtimeService;
+        this.resyncNanos = builder.resyncInterval.toNanos();
+        this.nanoClock = builder.nanoClock;
+        this.settleHook = builder.settleHook;
+    }
+
+    public static Builder builder(AccountService accountService, AirtimeService airtimeService) {
+        return new Builder(accountService, airtimeService);
+    }
+
+    /**
+     * Sends airtime if the ledger can cover {@code amount}.
+     *
+     * @throws InsufficientBalanceException if the send would overdraw, without
+     *                                      sending anything
+     */
+    public ApiResponse sendAirtime(String phoneNumber, String amount) {
+        return sendAirtime(phoneNumber, amount, RequestOptions.defaults());
+    }
+
+    /**
+     * Variant of {@link #sendAirtime(String, String)} with per-call options.
+     */
+    public ApiResponse sendAirtime(String phoneNumber, String amount, RequestOptions options) {
+        Reservation reservation = reserve(amount);
+        ApiResponse response;
+        try {
+            response = airtimeService.sendAirtime(phoneNumber, amount, options);
+        } catch (RuntimeException e) {
+            reservation.settle(e);
+            throw e;
+        }
+        reservation.settle(response);
+        return response;
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendAirtime(String, String)}. The ledger
+     * check itself may block on the first call, while the ledger is seeded.
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, String amount) {
+        return sendAirtimeAsync(phoneNumber, amount, RequestOptions.defaults());
+    }
+
+    /**
+     * Non-blocking variant of {@link #sendAirtime(String, String, RequestOptions)}.
+     */
+    public CompletableFuture<ApiResponse> sendAirtimeAsync(String phoneNumber, String amount,
+            RequestOptions options) {
+        Reservation reservation;
+        CompletableFuture<ApiResponse> response;
+        try {
+            reservation = reserve(amount);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            response = airtimeService.sendAirtimeAsync(phoneNumber, amount, options);
+        } catch (RuntimeException e) {
+            reservation.settle(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((result, error) -> {
+            if (error != null) {
+                reservation.settle(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            } else {
+                reservation.settle(result);
+            }
+        });
+    }
+
+    /**
+     * Holds {@code amount} against the balance. Callers that send through
+     * other means must settle the returned reservation exactly once.
+     *
+     * @throws InsufficientBalanceException if the balance cannot cover it
+     * @throws IllegalArgumentException     if {@code amount} is not a valid
+     *                                      airtime amount
+     */
+    public Reservation reserve(String amount) {
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        long cents = airtimeService.validateAmount(amount);
+
+        if (!seeded) {
+            resync();
+        } else if (nanoClock.getAsLong() - syncedAt >= resyncNanos) {
+            resyncAsync();
+        }
+
+        // Count the hold before taking it from the balance, so that a concurrent
+        // re-sync can only under-estimate what is available.
+        reserved.addAndGet(cents);
+        long current;
+        do {
+            current = available.get();
+            if (current < cents) {
+                reserved.addAndGet(-cents);
+                throw new InsufficientBalanceException("Insufficient balance for airtime of KES " + amount,
+                        BigDecimal.valueOf(cents, 2), BigDecimal.valueOf(current, 2));
+            }
+        } while (!available.compareAndSet(current, current - cents));
+        return new Reservation(cents);
+    }
+
+    /**
+     * Balance not held by outstanding reservations, in KES.
+     */
+    public BigDecimal getAvailable() {
+        return BigDecimal.valueOf(available.get(), 2);
+    }
+
+    /**
+     * Total of reservations not yet settled, in KES.
+     */
+    public BigDecimal getReserved() {
+        return BigDecimal.valueOf(reserved.get(), 2);
+    }
+
+    /**
+     * Re-reads the balance from the API, blocking until done. Joins a re-sync
+     * already in progress.
+     */
+    public void resync() {
+        try {
+            resyncAsync().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new NetworkException("Request failed", cause);
+        }
+    }
+
+    /**
+     * Starts re-reading the balance from the API unless that is already in
+     * progress.
+     */
+    public CompletableFuture<Void> resyncAsync() {
+        while (true) {
+            CompletableFuture<Void> pending = syncing.get();
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<Void> sync = new CompletableFuture<>();
+            if (syncing.compareAndSet(null, sync)) {
+                long startedAt = nanoClock.getAsLong();
+                long committedAtStart = committed.get();
+                CompletableFuture<AccountDetailsResponse> request;
+                try {
+                    request = accountService.getAccountDetailsAsync();
+                } catch (RuntimeException e) {
+                    request = CompletableFuture.failedFuture(e);
+                }
+                request.whenComplete((response, error) -> {
+                    Throwable failure = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (failure == null) {
+                        try {
+                            // Spends committed while the request was in flight may not be reflected
+                            // in the response; count them anyway to stay on the safe side.
+                            long balance = cents(response) - (committed.get() - committedAtStart);
+                            available.set(balance - reserved.get());
+                            syncedAt = startedAt;
+                            seeded = true;
+                        } catch (RuntimeException e) {
+                            failure = e;
+                        }
+                    }
+                    syncing.compareAndSet(sync, null);
+                    if (failure == null) {
+                        sync.complete(null);
+                    } else {
+                        sync.completeExceptionally(failure);
+                    }
+                });
+                return sync;
+            }
+        }
+    }
+
+    private static long cents(AccountDetailsResponse response) {
+        Organization organization = response.organization();
+        if (organization == null || organization.details() == null) {
+            throw new ApiException("Account details did not include a balance");
+        }
+        return BigDecimal.valueOf(organization.details().availableBalance())
+                .movePointRight(2)
+                .setScale(0, RoundingMode.DOWN)
+                .longValueExact();
+    }
+
+    /**
+     * An amount held against the balance until the send it covers is settled.
+     */
+    public final class Reservation {
+        private final long cents;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Reservation(long cents) {
+            this.cents = cents;
+        }
+
+        /**
+         * The reserved amount in KES.
+         */
+        public BigDecimal getAmount() {
+            return BigDecimal.valueOf(cents, 2);
+        }
+
+        /**
+         * Marks the amount as spent.
+         */
+        public void commit() {
+            if (settled.compareAndSet(false, true)) {
+                moveHoldTo(committed);
+            }
+        }
+
+        /**
+         * Returns the amount to the available balance.
+         */
+        public void release() {
+            if (settled.compareAndSet(false, true)) {
+                moveHoldTo(available);
+            }
+        }
+
+        private void moveHoldTo(AtomicLong target) {
+            // Count the amount in its new place before dropping the hold, so that
+            // a concurrent re-sync can only under-estimate what is available.
+            target.addAndGet(cents);
+            settleHook.run();
+            reserved.addAndGet(-cents);
+        }
+
+        /**
+         * Commits: a returned response means the API answered with a 2xx
+         * status, so the amount is treated as spent whatever {@code status_code}
+         * the body reports. A re-sync corrects the balance if it was not.
+         */
+        public void settle(ApiResponse response) {
+            commit();
+        }
+
+        /**
+         * Releases if the send certainly did not go through, otherwise commits.
+         */
+        public void settle(Throwable error) {
+            if (SendOutcomes.isRejected(error)) {
+                release();
+            } else {
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link BalanceLedger}.
+     */
+    public static final class Builder {
+        private final AccountService accountService;
+        private final AirtimeService airtimeService;
+        private Duration resyncInterval = Duration.ofMinutes(1);
+        private LongSupplier nanoClock = System::nanoTime;
+        private Runnable settleHook = () -> {
+        };
+
+        private Builder(AccountService accountService, AirtimeService airtimeService) {
+            this.accountService = Objects.requireNonNull(accountService, "Account service must not be null");
+            this.airtimeService = Objects.requireNonNull(airtimeService, "Airtime service must not be null");
+        }
+
+        /**
+         * How often the balance is re-read from the API. Defaults to one minute.
+         */
+        public Builder resyncInterval(Duration resyncInterval) {
+            this.resyncInterval = resyncInterval;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        /**
+         * Runs between the two counter updates that settle a reservation.
+         */
+        Builder settleHook(Runnable settleHook) {
+            this.settleHook = settleHook;
+            return this;
+        }
+
+        public BalanceLedger build() {
+            Objects.requireNonNull(resyncInterval, "Re-sync interval must not be null");
+            if (resyncInterval.isNegative() || resyncInterval.isZero()) {
+                throw new IllegalArgumentException("Re-sync interval must be positive");
+            }
+            return new BalanceLedger(this);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pipelines a collection of requests through an async sender while keeping at
+ * most {@link BulkOptions#getMaxConcurrency()} of them in flight.
+ *
+ * <p>
+ * Each concurrency slot is a "lane" that picks the next request as soon as its
+ * previous one completes, so no thread is parked waiting on the network and
+ * throughput depends only on the configured concurrency.
+ * </p>
+ */
+final class BulkDispatcher<Q> {
+
+    private final List<? extends Q> requests;
+    private final int total;
+    private final Function<? super Q, CompletableFuture<ApiResponse>> sender;
+    private final Consumer<? super BulkResult<Q>> listener;
+    private final BulkResult<Q>[] results;
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<BulkResult<Q>>> completion = new CompletableFuture<>();
+    private int nextIndex;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BulkDispatcher(List<? extends Q> requests, BulkOptions options,
+            Function<? super Q, CompletableFuture<ApiResponse>> sender,
+            Consumer<? super BulkResult<Q>> listener) {
+        this.requests = requests;
+        this.total = requests.size();
+        this.sender = sender;
+        this.listener = listener;
+        this.results = options.isRetainResults() ? new BulkResult[total] : null;
+        this.remaining = new AtomicInteger(total);
+    }
+
+    static <Q> CompletableFuture<List<BulkResult<Q>>> dispatch(Collection<? extends Q> requests,
+            BulkOptions options, Function<? super Q, CompletableFuture<ApiResponse>> sender,
+            Consumer<? super BulkResult<Q>> listener) {
+        // Snapshot the input so the result count always matches the requests
+        // actually sent, even if the collection changes or misreports its size.
+        List<? extends Q> snapshot = new ArrayList<>(requests);
+        if (snapshot.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        BulkDispatcher<Q> dispatcher = new BulkDispatcher<>(snapshot, options, sender, listener);
+        int lanes = Math.min(options.getMaxConcurrency(), dispatcher.total);
+        for (int i = 0; i < lanes; i++) {
+            dispatcher.runLane();
+        }
+        return dispatcher.completion;
+    }
+
+    private void runLane() {
+        while (true) {
+            int index;
+            Q request;
+            synchronized (this) {
+                if (nextIndex == total) {
+                    return;
+                }
+                index = nextIndex++;
+                request = requests.get(index);
+            }
+
+            CompletableFuture<ApiResponse> future;
+            try {
+                future = sender.apply(request);
+            } catch (RuntimeException e) {
+                record(index, request, null, e);
+                continue;
+            }
+
+            // Drain already-completed futures in this loop rather than through
+            // callbacks, which would otherwise recurse once per request.
+            if (future.isDone()) {
+                future.handle((response, error) -> record(index, request, response, error));
+                continue;
+            }
+            future.whenComplete((response, error) -> {
+                record(index, request, response, error);
+                runLane();
+            });
+            return;
+        }
+    }
+
+    private Void record(int index, Q request, ApiResponse response, Throwable error) {
+        BulkResult<Q> result = new BulkResult<>(index, request, error == null ? response : null, unwrap(error));
+        if (results != null) {
+            results[index] = result;
+        }
+        if (listener != null) {
+            try {
+                listener.accept(result);
+            } catch (RuntimeException ignored) {
+                // A misbehaving listener must not stall the remaining lanes.
+            }
+        }
+        if (remaining.decrementAndGet() == 0) {
+            completion.complete(results != null
+                    ? Collections.unmodifiableList(Arrays.asList(results))
+                    : Collections.emptyList());
+        }
+        return null;
+    }
+
+    static RuntimeException unwrap(Throwable error) {
+        if (error == null) {
+            return null;
+        }
+        Throwable cause = error;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new ApiException("Request failed", cause);
+    }
+}
@@ -0,0 +1,60 @@
+package ke.co.statum.sdk.services;
+
+/**
+ * Tuning options for bulk operations such as
+ * {@link SmsService#sendBulk(java.util.Collection, BulkOptions)}.
+ *
+ * <p>
+ * Instances are immutable; the {@code with*} methods return modified copies.
+ * </p>
+ *
+ * <pre>{@code
+ * BulkOptions options = BulkOptions.defaults()
+ *         .withMaxConcurrency(200)
+ *         .withRetainResults(false);
+ * }</pre>
+ */
+public final class BulkOptions {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final BulkOptions DEFAULTS = new BulkOptions(DEFAULT_MAX_CONCURRENCY, true);
+
+    private final int maxConcurrency;
+    private final boolean retainResults;
+
+    private BulkOptions(int maxConcurrency, boolean retainResults) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.retainResults = retainResults;
+    }
+
+    public static BulkOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Caps the number of requests in flight at any one time.
+     */
+    public BulkOptions withMaxConcurrency(int maxConcurrency) {
+        return new BulkOptions(maxConcurrency, retainResults);
+    }
+
+    /**
+     * Controls whether the completed future carries every result. Disable for
+     * very large runs that consume results through a listener instead.
+     */
+    public BulkOptions withRetainResults(boolean retainResults) {
+        return new BulkOptions(maxConcurrency, retainResults);
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public boolean isRetainResults() {
+        return retainResults;
+    }
+}
@@ -0,0 +1,108 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.DisbursementReport;
+import ke.co.statum.sdk.model.Money;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * One run of {@link AirtimeService#disburse}: validates every recipient before
+ * anything is sent, pipelines the sends through {@link BulkDispatcher} and
+ * tallies each outcome into the {@link DisbursementReport} buckets as it
+ * arrives.
+ */
+final class Disbursement {
+
+    /** Invalid recipients listed in the validation error before it is cut short. */
+    private static final int MAX_REPORTED_INVALID = 10;
+
+    private final long[] cents;
+    private final AtomicInteger disbursed = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger unconfirmed = new AtomicInteger();
+    private final AtomicLong centsDisbursed = new AtomicLong();
+    private final AtomicLong centsRejected = new AtomicLong();
+    private final AtomicLong centsUnconfirmed = new AtomicLong();
+
+    private Disbursement(long[] cents) {
+        this.cents = cents;
+    }
+
+    static CompletableFuture<DisbursementReport> run(AirtimeService service, Collection<AirtimeRequest> requests,
+            BulkOptions options, Consumer<? super BulkResult<AirtimeRequest>> onResult) {
+        // Copy first: sizing the arrays from the live collection breaks if it
+        // changes or misreports its size while being walked.
+        List<AirtimeRequest> input = new ArrayList<>(requests);
+        List<AirtimeRequest> validated = new ArrayList<>(input.size());
+        long[] cents = new long[input.size()];
+        StringBuilder invalid = null;
+        int invalidCount = 0;
+        int index = 0;
+        for (AirtimeRequest request : input) {
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Request cannot be null");
+                }
+                String recipient = PhoneNumbers.normalize(request.phoneNumber());
+                cents[index] = service.validateAmount(Objects.requireNonNull(request.amount(),
+                        "Amount cannot be null"));
+                // Send the amount in the canonical form it was validated in.
+                validated.add(new AirtimeRequest(recipient, Money.format(cents[index])));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                if (invalid == null) {
+                    invalid = new StringBuilder();
+                }
+                if (invalidCount++ < MAX_REPORTED_INVALID) {
+                    invalid.append("\n  #").append(index).append(": ").append(e.getMessage());
+                }
+            }
+            index++;
+        }
+        if (invalid != null) {
+            if (invalidCount > MAX_REPORTED_INVALID) {
+                invalid.append("\n  ...");
+            }
+            throw new IllegalArgumentException(invalidCount + " of " + index
+                    + " disbursements are invalid; nothing was sent:" + invalid);
+        }
+
+        Disbursement disbursement = new Disbursement(cents);
+        return BulkDispatcher.dispatch(validated, options, service::sendAsync, result -> {
+            disbursement.record(result);
+            if (onResult != null) {
+                onResult.accept(result);
+            }
+        }).thenApply(disbursement::report);
+    }
+
+    private void record(BulkResult<AirtimeRequest> result) {
+        long amount = cents[result.index()];
+        if (result.isSuccess() && SendOutcomes.isAccepted(result.response())) {
+            disbursed.incrementAndGet();
+            centsDisbursed.addAndGet(amount);
+        } else if (!result.isSuccess() && SendOutcomes.isRejected(result.error())) {
+            rejected.incrementAndGet();
+            centsRejected.addAndGet(amount);
+        } else {
+            // The request reached the API; a response without a 2xx body
+            // status does not prove nothing was sent.
+            unconfirmed.incrementAndGet();
+            centsUnconfirmed.addAndGet(amount);
+        }
+    }
+
+    private DisbursementReport report(List<BulkResult<AirtimeRequest>> results) {
+        return new DisbursementReport(cents.length, disbursed.get(), rejected.get(), unconfirmed.get(),
+                Money.ofCents(centsDisbursed.get()), Money.ofCents(centsRejected.get()),
+                Money.ofCents(centsUnconfirmed.get()), results);
+    }
+}
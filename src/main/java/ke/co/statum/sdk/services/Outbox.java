@@ -0,0 +1,405 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.SmsRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Disk-backed queue of SMS and airtime sends that survives restarts.
+ *
+ * <p>
+ * {@code enqueue*} validates the request, appends it to a memory-mapped log in
+ * {@code directory} and returns its offset without waiting on the network. The
+ * outbox drains the log through {@link SmsService} and {@link AirtimeService}
+ * with at most {@code maxConcurrency} requests in flight, and marks each record
+ * completed in place once the API has answered. When an outbox is opened on a
+ * directory that still holds pending records, e.g. after the JVM died
+ * mid-campaign, it resumes sending them.
+ * </p>
+ *
+ * <pre>{@code
+ * Outbox outbox = Outbox.builder(Path.of("/var/lib/app/statum-outbox"),
+ *                 client.getSmsService(), client.getAirtimeService())
+ *         .maxConcurrency(32)
+ *         .listener(new OutboxListener() {
+ *             public void onFailed(long offset, Object request, RuntimeException error) {
+ *                 log.warn("Rejected {}", request, error);
+ *             }
+ *         })
+ *         .build();
+ *
+ * outbox.enqueueSms("254712345678", "SENDER", "Your order has shipped");
+ * }</pre>
+ *
+ * <p>
+ * Every send carries an idempotency key derived from the outbox and the
+ * record's offset, so a request that was in flight when the process died is
+ * re-sent with the key it was first sent with. The SDK's in-memory
+ * idempotency cache starts empty after a restart, so such a re-send is only
+ * de-duplicated if the server honours the {@code Idempotency-Key} header.
+ * </p>
+ *
+ * <p>
+ * Transient failures are retried after {@code retryDelay}, doubling on each
+ * further failure up to {@code maxRetryDelay}. A request that has failed
+ * {@code maxAttempts} times is dead-lettered: marked failed and reported to
+ * {@link OutboxListener#onDeadLetter}. Attempts are counted per process, so a
+ * request recovered after a restart starts counting afresh. Requests the API
+ * rejects outright are marked failed at once and reported to
+ * {@link OutboxListener#onFailed}.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class Outbox implements AutoCloseable {
+
+    private final SmsService smsService;
+    private final AirtimeService airtimeService;
+    private final OutboxLog log;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final long retryDelayNanos;
+    private final long maxRetryDelayNanos;
+    private final OutboxListener listener;
+    private final Queue<Item> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean closed;
+
+    private Outbox(Builder builder, OutboxLog log) {
+        this.smsService = builder.smsService;
+        this.airtimeService = builder.airtimeService;
+        this.log = log;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxAttempts = builder.maxAttempts;
+        this.retryDelayNanos = builder.retryDelay.toNanos();
+        this.maxRetryDelayNanos = builder.maxRetryDelay.toNanos();
+        this.listener = builder.listener;
+        for (OutboxLog.Record record : log.takeRecovered()) {
+            queue.add(new Item(record.offset(), record.request(), 0));
+        }
+        pending.set(queue.size());
+    }
+
+    public static Builder builder(Path directory, SmsService smsService, AirtimeService airtimeService) {
+        return new Builder(directory, smsService, airtimeService);
+    }
+
+    /**
+     * Persists an SMS for sending.
+     *
+     * @return the request's offset in the outbox
+     * @throws IllegalArgumentException if the request is invalid; nothing is
+     *                                  persisted
+     * @throws UncheckedIOException     if the log could not be written
+     */
+    public long enqueueSms(String phoneNumber, String senderId, String message) {
+        return enqueue(smsService.buildRequest(phoneNumber, senderId, message));
+    }
+
+    /**
+     * Persists an airtime top-up for sending.
+     *
+     * @return the request's offset in the outbox
+     * @throws IllegalArgumentException if the request is invalid; nothing is
+     *                                  persisted
+     * @throws UncheckedIOException     if the log could not be written
+     */
+    public long enqueueAirtime(String phoneNumber, String amount) {
+        return enqueue(airtimeService.buildRequest(phoneNumber, amount));
+    }
+
+    /**
+     * Number of persisted requests not yet completed, including those in flight
+     * and those waiting to be retried.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops sending and closes the log. Requests not yet completed stay in the
+     * log and are sent when the directory is next opened.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            log.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close outbox", e);
+        }
+    }
+
+    private long enqueue(Object request) {
+        if (closed) {
+            throw new IllegalStateException("Outbox is closed");
+        }
+        long offset;
+        try {
+            offset = log.append(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to outbox", e);
+        }
+        pending.incrementAndGet();
+        queue.add(new Item(offset, request, 0));
+        drain();
+        return offset;
+    }
+
+    /**
+     * Starts sends while there is capacity. Only one thread runs the loop at a
+     * time; calls made meanwhile, including from sends that complete inline,
+     * make it go round again instead of recursing.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Item item;
+            while (!closed && inFlight.get() < maxConcurrency && (item = queue.poll()) != null) {
+                inFlight.incrementAndGet();
+                send(item);
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void send(Item item) {
+        RequestOptions options = RequestOptions.defaults().withIdempotencyKey(log.id() + "-" + item.offset);
+        CompletableFuture<ApiResponse> response;
+        try {
+            if (item.request instanceof SmsRequest sms) {
+                response = smsService.sendSmsAsync(sms.phoneNumber(), sms.senderId(), sms.message(), options);
+            } else {
+                AirtimeRequest airtime = (AirtimeRequest) item.request;
+                response = airtimeService.sendAirtimeAsync(airtime.phoneNumber(), airtime.amount(), options);
+            }
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause == null) {
+                complete(item, OutboxLog.SENT);
+                notifySent(item, result);
+            } else if (isPermanent(cause)) {
+                complete(item, OutboxLog.FAILED);
+                notifyFailed(item, cause instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new NetworkException("Request failed", cause));
+            } else if (item.attempts + 1 >= maxAttempts) {
+                complete(item, OutboxLog.FAILED);
+                notifyDeadLetter(item, cause instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new NetworkException("Request failed", cause));
+            } else if (!closed) {
+                Item retry = new Item(item.offset, item.request, item.attempts + 1);
+                CompletableFuture.delayedExecutor(retryDelay(retry.attempts), TimeUnit.NANOSECONDS).execute(() -> {
+                    queue.add(retry);
+                    drain();
+                });
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Delay before the given retry: {@code retryDelay}, doubled for each
+     * earlier retry, capped at {@code maxRetryDelay}.
+     */
+    private long retryDelay(int retry) {
+        int doublings = Math.min(retry - 1, 62);
+        if (retryDelayNanos > maxRetryDelayNanos >> doublings) {
+            return maxRetryDelayNanos;
+        }
+        return Math.min(maxRetryDelayNanos, retryDelayNanos << doublings);
+    }
+
+    private void complete(Item item, byte state) {
+        if (closed) {
+            return;
+        }
+        log.complete(item.offset, state);
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Whether retrying cannot help: the request is invalid or the API rejected
+     * it with a 4xx other than 429.
+     */
+    private static boolean isPermanent(Throwable error) {
+        if (error instanceof IllegalArgumentException) {
+            return true;
+        }
+        if (error instanceof NetworkException || !(error instanceof ApiException apiException)) {
+            return false;
+        }
+        int status = apiException.getStatusCode();
+        return status >= 400 && status < 500 && status != 429;
+    }
+
+    private void notifySent(Item item, ApiResponse response) {
+        try {
+            listener.onSent(item.offset, item.request, response);
+        } catch (RuntimeException ignored) {
+            // A misbehaving listener must not stall the outbox.
+        }
+    }
+
+    private void notifyFailed(Item item, RuntimeException error) {
+        try {
+            listener.onFailed(item.offset, item.request, error);
+        } catch (RuntimeException ignored) {
+            // A misbehaving listener must not stall the outbox.
+        }
+    }
+
+    private void notifyDeadLetter(Item item, RuntimeException error) {
+        try {
+            listener.onDeadLetter(item.offset, item.request, error);
+        } catch (RuntimeException ignored) {
+            // A misbehaving listener must not stall the outbox.
+        }
+    }
+
+    /**
+     * @param attempts failed attempts so far in this process
+     */
+    private record Item(long offset, Object request, int attempts) {
+    }
+
+    /**
+     * Builder for {@link Outbox}.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private final SmsService smsService;
+        private final AirtimeService airtimeService;
+        private int maxConcurrency = 16;
+        private int segmentSize = 16 * 1024 * 1024;
+        private int maxAttempts = 10;
+        private Duration retryDelay = Duration.ofSeconds(5);
+        private Duration maxRetryDelay = Duration.ofMinutes(5);
+        private boolean forceOnAppend;
+        private OutboxListener listener = new OutboxListener() {
+        };
+
+        private Builder(Path directory, SmsService smsService, AirtimeService airtimeService) {
+            this.directory = Objects.requireNonNull(directory, "Directory must not be null");
+            this.smsService = Objects.requireNonNull(smsService, "SMS service must not be null");
+            this.airtimeService = Objects.requireNonNull(airtimeService, "Airtime service must not be null");
+        }
+
+        /**
+         * Caps the number of requests in flight. Defaults to 16.
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Size of each new log segment file in bytes. Segments already in the
+         * directory keep the size they were created with. Defaults to 16 MiB.
+         */
+        public Builder segmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Number of times a request is sent before a transient failure
+         * dead-letters it. Defaults to 10.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * How long to wait before re-sending after a first transient failure.
+         * The wait doubles with each further failure. Defaults to 5 seconds.
+         */
+        public Builder retryDelay(Duration retryDelay) {
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        /**
+         * Upper bound on the wait between re-sends. Defaults to 5 minutes.
+         */
+        public Builder maxRetryDelay(Duration maxRetryDelay) {
+            this.maxRetryDelay = maxRetryDelay;
+            return this;
+        }
+
+        /**
+         * Flushes every append to disk before {@code enqueue*} returns, so that
+         * queued requests also survive power loss, not only the JVM dying. Off by
+         * default.
+         */
+        public Builder forceOnAppend(boolean forceOnAppend) {
+            this.forceOnAppend = forceOnAppend;
+            return this;
+        }
+
+        public Builder listener(OutboxListener listener) {
+            this.listener = Objects.requireNonNull(listener, "Listener must not be null");
+            return this;
+        }
+
+        /**
+         * Opens the outbox, and starts re-sending any requests left pending in
+         * {@code directory}.
+         *
+         * @throws UncheckedIOException if the log could not be opened
+         */
+        public Outbox build() {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("Max concurrency must be at least 1");
+            }
+            if (segmentSize < 1024) {
+                throw new IllegalArgumentException("Segment size must be at least 1 KiB");
+            }
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            Objects.requireNonNull(retryDelay, "Retry delay must not be null");
+            Objects.requireNonNull(maxRetryDelay, "Max retry delay must not be null");
+            if (retryDelay.isNegative() || maxRetryDelay.compareTo(retryDelay) < 0) {
+                throw new IllegalArgumentException("Retry delays must satisfy 0 <= retryDelay <= maxRetryDelay");
+            }
+            OutboxLog log;
+            try {
+                log = OutboxLog.open(directory, segmentSize, forceOnAppend);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open outbox in " + directory, e);
+            }
+            Outbox outbox = new Outbox(this, log);
+            outbox.drain();
+            return outbox;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.model.ApiResponse;
+
+/**
+ * Receives the outcome of requests drained from an {@link Outbox}.
+ *
+ * <p>
+ * Called from HTTP client threads, possibly concurrently, and possibly after a
+ * restart for requests enqueued by an earlier process. Implementations should
+ * return quickly; exceptions they throw are ignored.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public interface OutboxListener {
+
+    /**
+     * @param offset  the offset {@code enqueue*} returned for the request
+     * @param request the {@link ke.co.statum.sdk.model.SmsRequest} or
+     *                {@link ke.co.statum.sdk.model.AirtimeRequest} that was sent
+     */
+    default void onSent(long offset, Object request, ApiResponse response) {
+    }
+
+    /**
+     * Called when the API rejected the request outright, e.g. with a validation
+     * error. Transient failures are retried and not reported here.
+     */
+    default void onFailed(long offset, Object request, RuntimeException error) {
+    }
+
+    /**
+     * Called when a request has failed transiently on every one of the
+     * outbox's {@code maxAttempts}. The request is marked failed and not sent
+     * again, although an attempt that timed out may still have reached the
+     * API.
+     *
+     * @param error the last attempt's failure
+     */
+    default void onDeadLetter(long offset, Object request, RuntimeException error) {
+    }
+}
@@ -0,0 +1,306 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.SmsRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped log behind {@link Outbox}.
+ *
+ * <p>
+ * The log is a sequence of segment files named after the offset of their
+ * first byte. New segments get the configured size; existing ones are mapped
+ * at their file size, so a directory can be reopened with a different segment
+ * size. Each record is laid out as:
+ * </p>
+ *
+ * <pre>
+ * int   payload length (written last, so a zero marks the end of the log)
+ * int   CRC32 of the payload
+ * byte  state: pending, sent or failed
+ * byte[] payload: kind, then length-prefixed UTF-8 fields
+ * </pre>
+ *
+ * <p>
+ * Completing a record rewrites its state byte in place, so on recovery only
+ * records still pending are handed back. Writes go to the page cache through
+ * the mapping and therefore survive the JVM dying; surviving power loss
+ * requires {@code force} on every append. A segment is deleted once every
+ * record in it has completed and a newer segment has taken over.
+ * </p>
+ */
+final class OutboxLog {
+
+    static final byte PENDING = 0;
+    static final byte SENT = 1;
+    static final byte FAILED = 2;
+
+    private static final int HEADER = 9;
+    private static final byte SMS = 1;
+    private static final byte AIRTIME = 2;
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean force;
+    private final String id;
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private List<Record> recovered = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+    private Segment active;
+
+    /**
+     * A pending record found during recovery.
+     */
+    record Record(long offset, Object request) {
+    }
+
+    private OutboxLog(Path directory, int segmentSize, boolean force, String id) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.force = force;
+        this.id = id;
+    }
+
+    static OutboxLog open(Path directory, int segmentSize, boolean force) throws IOException {
+        Files.createDirectories(directory);
+        Path idFile = directory.resolve("outbox.id");
+        if (!Files.exists(idFile)) {
+            Files.writeString(idFile, UUID.randomUUID().toString());
+        }
+        OutboxLog log = new OutboxLog(directory, segmentSize, force, Files.readString(idFile).trim());
+        log.recover();
+        return log;
+    }
+
+    /**
+     * Identifies this log across restarts, so that idempotency keys derived
+     * from offsets stay unique.
+     */
+    String id() {
+        return id;
+    }
+
+    /**
+     * Hands over the records that were still pending when the log was opened,
+     * in offset order. The log keeps no reference to them afterwards.
+     */
+    synchronized List<Record> takeRecovered() {
+        List<Record> records = recovered;
+        recovered = List.of();
+        return records;
+    }
+
+    synchronized long append(Object request) throws IOException {
+        byte[] payload = encode(request);
+        int size = HEADER + payload.length;
+        if (size + 4 > segmentSize) {
+            throw new IllegalArgumentException("Request does not fit in an outbox segment");
+        }
+        if (active == null || active.writePosition + size + 4 > active.buffer.capacity()) {
+            roll();
+        }
+        Segment segment = active;
+        int position = segment.writePosition;
+        MappedByteBuffer buffer = segment.buffer;
+        crc.reset();
+        crc.update(payload);
+        buffer.put(position + HEADER, payload);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.put(position + 8, PENDING);
+        // Publish the record by writing its length last.
+        buffer.putInt(position, payload.length);
+        if (force) {
+            buffer.force(position, size);
+        }
+        segment.writePosition = position + size;
+        segment.pending++;
+        return segment.base + position;
+    }
+
+    /**
+     * Marks the record at {@code offset} as completed with {@code state}.
+     */
+    synchronized void complete(long offset, byte state) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null) {
+            return;
+        }
+        Segment segment = entry.getValue();
+        int position = (int) (offset - segment.base);
+        segment.buffer.put(position + 8, state);
+        if (force) {
+            segment.buffer.force(position + 8, 1);
+        }
+        if (--segment.pending == 0 && segment != active) {
+            delete(segment);
+        }
+    }
+
+    synchronized void close() throws IOException {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+            segment.channel.close();
+        }
+        segments.clear();
+        active = null;
+    }
+
+    private void recover() throws IOException {
+        List<Long> bases = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                bases.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+            }
+        }
+        bases.sort(null);
+        for (long base : bases) {
+            // Map at the file's own size: it may have been written with a
+            // different segment size than this process uses.
+            Segment segment = map(base, -1);
+            scan(segment);
+            segments.put(base, segment);
+            active = segment;
+        }
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment.pending == 0 && segment != active) {
+                delete(segment);
+            }
+        }
+    }
+
+    private void scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int capacity = buffer.capacity();
+        int position = 0;
+        while (position + HEADER <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER + length > capacity) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                // Torn write at the tail: discard it so the next append overwrites it.
+                buffer.putInt(position, 0);
+                break;
+            }
+            if (buffer.get(position + 8) == PENDING) {
+                recovered.add(new Record(segment.base + position, decode(payload)));
+                segment.pending++;
+            }
+            position += HEADER + length;
+        }
+        segment.writePosition = position;
+    }
+
+    private void roll() throws IOException {
+        long base = active == null ? 0 : active.base + active.writePosition;
+        Segment previous = active;
+        active = map(base, segmentSize);
+        segments.put(base, active);
+        if (previous != null && previous.pending == 0) {
+            delete(previous);
+        }
+    }
+
+    /**
+     * Maps the segment starting at {@code base}, creating it with {@code size}
+     * bytes, or mapping an existing file at its current size if {@code size}
+     * is negative.
+     */
+    private Segment map(long base, int size) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", base, SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long length = size >= 0 ? size : channel.size();
+        if (length > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Outbox segment " + file + " is too large");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        return new Segment(base, file, channel, buffer);
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment.base);
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        } catch (IOException ignored) {
+            // Left behind; recovery deletes it once it finds nothing pending.
+        }
+    }
+
+    private static byte[] encode(Object request) {
+        if (request instanceof SmsRequest sms) {
+            return encode(SMS, sms.phoneNumber(), sms.senderId(), sms.message());
+        }
+        AirtimeRequest airtime = (AirtimeRequest) request;
+        return encode(AIRTIME, airtime.phoneNumber(), airtime.amount());
+    }
+
+    private static byte[] encode(byte kind, String... fields) {
+        byte[][] encoded = new byte[fields.length][];
+        int size = 1;
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            size += 4 + encoded[i].length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size).put(kind);
+        for (byte[] field : encoded) {
+            buffer.putInt(field.length).put(field);
+        }
+        return buffer.array();
+    }
+
+    private static Object decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte kind = buffer.get();
+        if (kind == SMS) {
+            return new SmsRequest(readString(buffer), readString(buffer), readString(buffer));
+        }
+        return new AirtimeRequest(readString(buffer), readString(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Segment {
+        private final long base;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int pending;
+
+        Segment(long base, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.base = base;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
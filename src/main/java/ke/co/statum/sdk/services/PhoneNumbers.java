@@ -0,0 +1,154 @@
+package ke.co.statum.sdk.services;
+
+import java.util.Objects;
+
+/**
+ * Validation and normalization of the Kenyan mobile numbers the API accepts.
+ *
+ * <p>
+ * A number is accepted in any of the forms {@code +2547XXXXXXXX},
+ * {@code 2547XXXXXXXX} or {@code 07XXXXXXXX}, with {@code 1} in place of
+ * {@code 7} for the newer prefixes. This is the same set the former pattern
+ * {@code ^(?:\+254|254|0)(7|1)[0-9]{8}$} matched, checked here character by
+ * character without a regex engine or any allocation. {@link #normalize(String)}
+ * maps every accepted form to E.164, e.g. {@code +254712345678}, which is what
+ * {@link SmsService} and {@link AirtimeService} send.
+ * </p>
+ *
+ * <pre>{@code
+ * String[] contacts = ...;
+ * String[] recipients = new String[contacts.length];
+ * int valid = PhoneNumbers.normalize(contacts, recipients); // null where invalid
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class PhoneNumbers {
+
+    static final String INVALID_MESSAGE =
+            "Invalid phone number format. Expected Kenyan number like +254712345678, 254712345678, or 0712345678";
+
+    private static final String COUNTRY_PREFIX = "+254";
+    private static final int E164_LENGTH = 13;
+    private static final int SUBSCRIBER_DIGITS = 9;
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * Whether {@code number} is a Kenyan mobile number in one of the accepted
+     * forms. Never throws; {@code null} is invalid.
+     */
+    public static boolean isValid(CharSequence number) {
+        return subscriberStart(number) >= 0;
+    }
+
+    /**
+     * Returns {@code number} in E.164 form, e.g. {@code +254712345678}. A number
+     * already in that form is returned as is.
+     *
+     * @throws NullPointerException     if {@code number} is null
+     * @throws IllegalArgumentException if {@code number} is not valid
+     */
+    public static String normalize(String number) {
+        Objects.requireNonNull(number, "Phone number cannot be null");
+        int start = subscriberStart(number);
+        if (start < 0) {
+            throw new IllegalArgumentException(INVALID_MESSAGE);
+        }
+        if (start == COUNTRY_PREFIX.length()) {
+            return number;
+        }
+        return new StringBuilder(E164_LENGTH)
+                .append(COUNTRY_PREFIX)
+                .append(number, start, number.length())
+                .toString();
+    }
+
+    /**
+     * Validates every entry of {@code numbers}, storing the outcome at the same
+     * index of {@code valid}.
+     *
+     * @return the number of valid entries
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static int validate(CharSequence[] numbers, boolean[] valid) {
+        Objects.requireNonNull(numbers, "Numbers cannot be null");
+        Objects.requireNonNull(valid, "Results cannot be null");
+        if (numbers.length != valid.length) {
+            throw new IllegalArgumentException("Results must have the same length as numbers");
+        }
+        int count = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            boolean ok = subscriberStart(numbers[i]) >= 0;
+            valid[i] = ok;
+            if (ok) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Normalizes every entry of {@code numbers} into the same index of
+     * {@code normalized}, storing {@code null} for invalid entries. The two
+     * arrays may be the same array.
+     *
+     * @return the number of valid entries
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static int normalize(String[] numbers, String[] normalized) {
+        Objects.requireNonNull(numbers, "Numbers cannot be null");
+        Objects.requireNonNull(normalized, "Results cannot be null");
+        if (numbers.length != normalized.length) {
+            throw new IllegalArgumentException("Results must have the same length as numbers");
+        }
+        int count = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            String number = numbers[i];
+            if (subscriberStart(number) >= 0) {
+                normalized[i] = normalize(number);
+                count++;
+            } else {
+                normalized[i] = null;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Index of the subscriber number's first digit, the {@code 7} or {@code 1}
+     * after the prefix, or -1 if {@code number} is not valid.
+     */
+    private static int subscriberStart(CharSequence number) {
+        if (number == null) {
+            return -1;
+        }
+        int length = number.length();
+        int start;
+        if (length == E164_LENGTH && number.charAt(0) == '+' && isCountryCode(number, 1)) {
+            start = 4;
+        } else if (length == E164_LENGTH - 1 && isCountryCode(number, 0)) {
+            start = 3;
+        } else if (length == SUBSCRIBER_DIGITS + 1 && number.charAt(0) == '0') {
+            start = 1;
+        } else {
+            return -1;
+        }
+        char operator = number.charAt(start);
+        if (operator != '7' && operator != '1') {
+            return -1;
+        }
+        for (int i = start + 1; i < length; i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return start;
+    }
+
+    private static boolean isCountryCode(CharSequence number, int offset) {
+        return number.charAt(offset) == '2' && number.charAt(offset + 1) == '5' && number.charAt(offset + 2) == '4';
+    }
+}
@@ -0,0 +1,41 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.CircuitBreakerOpenException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.ApiResponse;
+
+/**
+ * Classifies the outcome of a send for callers that account for money: an
+ * accepted send spent its amount, a rejected one certainly did not, and
+ * anything else may have.
+ */
+final class SendOutcomes {
+
+    private SendOutcomes() {
+    }
+
+    /**
+     * Whether a returned response confirms the send with a 2xx status in its
+     * body. A response that does not is still no proof that nothing was spent.
+     */
+    static boolean isAccepted(ApiResponse response) {
+        int status = response.statusCode();
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Whether a failed send certainly did not spend anything: it was rejected
+     * locally or with a 4xx status.
+     */
+    static boolean isRejected(Throwable error) {
+        if (error instanceof CircuitBreakerOpenException || error instanceof IllegalArgumentException) {
+            return true;
+        }
+        if (error instanceof NetworkException || !(error instanceof ApiException apiException)) {
+            return false;
+        }
+        int status = apiException.getStatusCode();
+        return status >= 400 && status < 500;
+    }
+}
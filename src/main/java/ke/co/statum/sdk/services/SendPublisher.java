@@ -0,0 +1,219 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Sends each request from an upstream {@link Flow.Publisher} through an async
+ * sender and publishes one {@link BulkResult} per request, in completion order.
+ *
+ * <p>
+ * Upstream is only asked for as many requests as can be sent right away: the
+ * number requested but not yet received, plus those in flight, never exceeds
+ * {@link BulkOptions#getMaxConcurrency()}, nor the downstream demand not yet
+ * met by results already published or waiting. A request waiting on a
+ * rate-limit token counts as in flight, so a throttled client slows upstream
+ * down instead of queueing. Each subscription subscribes to upstream afresh;
+ * a publisher supports a single subscriber.
+ * </p>
+ */
+final class SendPublisher<Q> implements Flow.Publisher<BulkResult<Q>> {
+
+    private final Flow.Publisher<? extends Q> upstream;
+    private final int maxConcurrency;
+    private final Function<? super Q, CompletableFuture<ApiResponse>> sender;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    SendPublisher(Flow.Publisher<? extends Q> upstream, BulkOptions options,
+            Function<? super Q, CompletableFuture<ApiResponse>> sender) {
+        this.upstream = Objects.requireNonNull(upstream, "Requests cannot be null");
+        this.maxConcurrency = Objects.requireNonNull(options, "Options cannot be null").getMaxConcurrency();
+        this.sender = sender;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BulkResult<Q>> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher supports a single subscriber"));
+            return;
+        }
+        Bridge bridge = new Bridge(subscriber);
+        subscriber.onSubscribe(bridge);
+        upstream.subscribe(bridge);
+    }
+
+    /**
+     * Subscriber to upstream and subscription for downstream. All signals to
+     * downstream and all requests to upstream are made from {@link #drain()},
+     * which one thread at a time runs.
+     */
+    private final class Bridge implements Flow.Subscriber<Q>, Flow.Subscription {
+        private final Flow.Subscriber<? super BulkResult<Q>> downstream;
+        private final Queue<BulkResult<Q>> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger readyCount = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong outstanding = new AtomicLong();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private volatile Flow.Subscription subscription;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+        private volatile Throwable demandError;
+        private boolean terminated;
+        private int nextIndex;
+
+        Bridge(Flow.Subscriber<? super BulkResult<Q>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (this.subscription != null || cancelled || demandError != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            drain();
+        }
+
+        @Override
+        public void onNext(Q request) {
+            if (cancelled) {
+                return;
+            }
+            // Count the send before the request stops being outstanding, so
+            // capacity is never over-estimated in between.
+            inFlight.incrementAndGet();
+            outstanding.decrementAndGet();
+            int index = nextIndex++;
+            CompletableFuture<ApiResponse> response;
+            try {
+                response = sender.apply(request);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((result, error) -> {
+                ready.add(new BulkResult<>(index, request, error == null ? result : null,
+                        BulkDispatcher.unwrap(error)));
+                readyCount.incrementAndGet();
+                inFlight.decrementAndGet();
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            upstreamError = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                demandError = new IllegalArgumentException("Demand must be positive, got " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    drainOnce();
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            Flow.Subscription upstreamSubscription = subscription;
+            if (cancelled || demandError != null) {
+                terminated = true;
+                ready.clear();
+                if (upstreamSubscription != null) {
+                    upstreamSubscription.cancel();
+                }
+                if (!cancelled) {
+                    downstream.onError(demandError);
+                }
+                return;
+            }
+
+            long emitted = 0;
+            long requested = demand.get();
+            BulkResult<Q> result;
+            while (emitted < requested && (result = ready.poll()) != null) {
+                readyCount.decrementAndGet();
+                downstream.onNext(result);
+                emitted++;
+            }
+            if (emitted > 0 && requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+
+            if (upstreamDone && inFlight.get() == 0 && ready.isEmpty()) {
+                terminated = true;
+                if (upstreamError != null) {
+                    downstream.onError(upstreamError);
+                } else {
+                    downstream.onComplete();
+                }
+                return;
+            }
+
+            if (upstreamSubscription == null || upstreamDone) {
+                return;
+            }
+            long pending = outstanding.get() + inFlight.get();
+            long byConcurrency = maxConcurrency - pending;
+            long byDemand = demand.get() - pending - readyCount.get();
+            long more = Math.min(byConcurrency, byDemand);
+            if (more > 0) {
+                outstanding.addAndGet(more);
+                upstreamSubscription.request(more);
+            }
+        }
+    }
+}
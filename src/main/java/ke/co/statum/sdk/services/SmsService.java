@@ -1,17 +1,20 @@
 package ke.co.statum.sdk.services;
 
+import ke.co.statum.sdk.config.RequestOptions;
 import ke.co.statum.sdk.http.HttpClientProvider;
 import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.SmsRequest;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 public class SmsService {
 
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^(?:\\+254|254|0)(7|1)[0-9]{8}$");
-
     private final HttpClientProvider httpClient;
 
     public SmsService(HttpClientProvider httpClient) {
@@ -19,30 +22,122 @@ public class SmsService {
     }
 
     public ApiResponse sendSms(String phoneNumber, String senderId, String message) {
+        return httpClient.post("/sms", buildRequest(phoneNumber, senderId, message), ApiResponse.class);
+    }
+
+    /**
+     * Sends an SMS with per-call options such as an idempotency key or a
+     * tighter timeout.
+     *
+     * @see RequestOptions#withIdempotencyKey(String)
+     * @see RequestOptions#withDeadline(java.time.Duration)
+     */
+    public ApiResponse sendSms(String phoneNumber, String senderId, String message, RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.post("/sms", buildRequest(phoneNumber, senderId, message), ApiResponse.class, options);
+    }
+
+    /**
+     * Sends an SMS without blocking the calling thread.
+     *
+     * <p>
+     * Arguments are validated eagerly, so invalid input throws before any request
+     * is made. API and network failures complete the returned future exceptionally
+     * with the same exceptions {@link #sendSms(String, String, String)} throws.
+     * </p>
+     */
+    public CompletableFuture<ApiResponse> sendSmsAsync(String phoneNumber, String senderId, String message) {
+        return httpClient.postAsync("/sms", buildRequest(phoneNumber, senderId, message), ApiResponse.class);
+    }
+
+    /**
+     * Non-blocking variant of
+     * {@link #sendSms(String, String, String, RequestOptions)}.
+     */
+    public CompletableFuture<ApiResponse> sendSmsAsync(String phoneNumber, String senderId, String message,
+            RequestOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null");
+        return httpClient.postAsync("/sms", buildRequest(phoneNumber, senderId, message), ApiResponse.class,
+                options);
+    }
+
+    /**
+     * Sends a batch of SMS messages, keeping at most
+     * {@link BulkOptions#getMaxConcurrency()} requests in flight.
+     *
+     * <p>
+     * Every request produces exactly one {@link BulkResult}; a failed recipient
+     * never aborts the rest of the batch. The returned future completes once all
+     * requests have finished and, unless disabled through
+     * {@link BulkOptions#withRetainResults(boolean)}, holds the results in
+     * submission order.
+     * </p>
+     *
+     * @param requests the messages to send; must not be modified while the batch
+     *                 is running
+     * @param options  concurrency and result-retention settings
+     * @return a future completing with one result per request
+     */
+    public CompletableFuture<List<BulkResult<SmsRequest>>> sendBulk(Collection<SmsRequest> requests,
+            BulkOptions options) {
+        return sendBulk(requests, options, null);
+    }
+
+    /**
+     * Like {@link #sendBulk(Collection, BulkOptions)}, additionally streaming each
+     * result to {@code onResult} as soon as its request completes.
+     *
+     * <p>
+     * The listener may be invoked concurrently from HTTP client threads and should
+     * return quickly. Exceptions it throws are ignored.
+     * </p>
+     */
+    public CompletableFuture<List<BulkResult<SmsRequest>>> sendBulk(Collection<SmsRequest> requests,
+            BulkOptions options, Consumer<? super BulkResult<SmsRequest>> onResult) {
+        Objects.requireNonNull(requests, "Requests cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+        return BulkDispatcher.dispatch(requests, options,
+                request -> sendSmsAsync(request.phoneNumber(), request.senderId(), request.message()),
+                onResult);
+    }
+
+    /**
+     * Sends every SMS {@code requests} publishes and publishes one
+     * {@link BulkResult} per message as it completes.
+     *
+     * <p>
+     * Nothing is requested from {@code requests} until the returned publisher
+     * is subscribed to. After that, upstream is asked for more messages only as
+     * sends complete and downstream demand allows, keeping at most
+     * {@link BulkOptions#getMaxConcurrency()} in flight, so a slow consumer or a
+     * throttling {@link ke.co.statum.sdk.resilience.RateLimiter} slows the
+     * source down. Results arrive in completion order; use
+     * {@link BulkResult#index()} to match them to requests. A failed or invalid
+     * message yields a failed result and never terminates the stream; an error
+     * from {@code requests} is passed on once in-flight sends have been
+     * published. The returned publisher supports a single subscriber.
+     * {@link BulkOptions#isRetainResults()} does not apply.
+     * </p>
+     */
+    public Flow.Publisher<BulkResult<SmsRequest>> sendStream(Flow.Publisher<? extends SmsRequest> requests,
+            BulkOptions options) {
+        return new SendPublisher<SmsRequest>(requests, options,
+                request -> sendSmsAsync(request.phoneNumber(), request.senderId(), request.message()));
+    }
+
+    SmsRequest buildRequest(String phoneNumber, String senderId, String message) {
         Objects.requireNonNull(phoneNumber, "Phone number cannot be null");
         Objects.requireNonNull(senderId, "Sender ID cannot be null");
         Objects.requireNonNull(message, "Message cannot be null");
 
-        // Validate phone number format
-        validatePhoneNumber(phoneNumber);
+        // Validate phone number format and send it in E.164 form
+        String recipient = PhoneNumbers.normalize(phoneNumber);
 
         // Validate message is not empty or blank
         if (message.isBlank()) {
             throw new IllegalArgumentException("Message cannot be empty or blank");
         }
 
-        Map<String, String> request = new HashMap<>();
-        request.put("phone_number", phoneNumber);
-        request.put("sender_id", senderId);
-        request.put("message", message);
-
-        return httpClient.post("/sms", request, ApiResponse.class);
-    }
-
-    private void validatePhoneNumber(String phoneNumber) {
-        if (!PHONE_PATTERN.matcher(phoneNumber).matches()) {
-            throw new IllegalArgumentException(
-                    "Invalid phone number format. Expected Kenyan number like +254712345678, 254712345678, or 0712345678");
-        }
+        return new SmsRequest(recipient, senderId, message);
     }
 }
@@ -0,0 +1,122 @@
+package ke.co.statum.sdk;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StatumClientPoolTest {
+
+    private final HttpClient transport = mock(HttpClient.class);
+    private final AtomicLong clock = new AtomicLong();
+    private final StatumConfig config = StatumConfig.builder("unused", "unused")
+            .baseUrl("https://api.example.com/v2")
+            .retryPolicy(RetryPolicy.none())
+            .build();
+
+    @Test
+    void getClient_shouldReuseClientPerTenant() {
+        StatumClientPool pool = pool(Duration.ofMinutes(1));
+
+        StatumClient first = pool.getClient("tenantA", "secretA");
+
+        assertSame(first, pool.getClient("tenantA", "secretA"));
+        assertNotSame(first, pool.getClient("tenantB", "secretB"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void tenants_shouldSendThroughSharedTransportWithOwnCredentials() throws IOException, InterruptedException {
+        when(transport.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Connection refused"));
+        StatumClientPool pool = pool(Duration.ofMinutes(1));
+
+        assertThrows(NetworkException.class,
+                () -> pool.getClient("tenantA", "secretA").getAccountService().getAccountDetails());
+        assertThrows(NetworkException.class,
+                () -> pool.getClient("tenantB", "secretB").getAccountService().getAccountDetails());
+
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(transport, times(2)).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        List<HttpRequest> sent = captor.getAllValues();
+        assertEquals(basic("tenantA", "secretA"), sent.get(0).headers().firstValue("Authorization").orElseThrow());
+        assertEquals(basic("tenantB", "secretB"), sent.get(1).headers().firstValue("Authorization").orElseThrow());
+        assertEquals("https://api.example.com/v2/account-details", sent.get(1).uri().toString());
+    }
+
+    @Test
+    void getClient_shouldReplaceClientWhenSecretChanges() {
+        StatumClientPool pool = pool(Duration.ofMinutes(1));
+
+        StatumClient before = pool.getClient("tenantA", "secretA");
+        StatumClient after = pool.getClient("tenantA", "rotated");
+
+        assertNotSame(before, after);
+        assertSame(after, pool.getClient("tenantA", "rotated"));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void idleTenants_shouldBeEvictedLazily() {
+        StatumClientPool pool = pool(Duration.ofMinutes(1));
+        StatumClient idle = pool.getClient("idle", "secret");
+        pool.getClient("busy", "secret");
+
+        clock.addAndGet(Duration.ofSeconds(40).toNanos());
+        pool.getClient("busy", "secret");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        pool.getClient("busy", "secret");
+
+        assertEquals(1, pool.size());
+        assertNotSame(idle, pool.getClient("idle", "secret"));
+    }
+
+    @Test
+    void evict_shouldDropTenant() {
+        StatumClientPool pool = pool(Duration.ofMinutes(1));
+        pool.getClient("tenantA", "secretA");
+
+        assertTrue(pool.evict("tenantA"));
+        assertFalse(pool.evict("tenantA"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveIdleTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> pool(Duration.ZERO));
+    }
+
+    @Test
+    void withCredentials_shouldKeepOtherSettings() {
+        StatumConfig tenant = config.withCredentials("key", "secret");
+
+        assertEquals("key", tenant.getConsumerKey());
+        assertEquals("secret", tenant.getConsumerSecret());
+        assertEquals(config.getBaseUrl(), tenant.getBaseUrl());
+        assertSame(config.getRateLimiter(), tenant.getRateLimiter());
+        assertSame(config.getRetryPolicy(), tenant.getRetryPolicy());
+    }
+
+    private StatumClientPool pool(Duration idleTimeout) {
+        return new StatumClientPool(config, idleTimeout, transport, clock::get);
+    }
+
+    private static String basic(String key, String secret) {
+        return "Basic " + Base64.getEncoder().encodeToString((key + ":" + secret).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package ke.co.statum.sdk.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestOptionsTest {
+
+    @Test
+    void defaults_shouldHaveNoIdempotencyKey() {
+        assertNull(RequestOptions.defaults().getIdempotencyKey());
+    }
+
+    @Test
+    void withIdempotencyKey_shouldReturnCopy() {
+        RequestOptions defaults = RequestOptions.defaults();
+        RequestOptions options = defaults.withIdempotencyKey("order-1");
+
+        assertEquals("order-1", options.getIdempotencyKey());
+        assertNull(defaults.getIdempotencyKey());
+    }
+
+    @Test
+    void withIdempotencyKey_shouldRejectBlankOrOversizedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> RequestOptions.defaults().withIdempotencyKey(" "));
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestOptions.defaults().withIdempotencyKey("k".repeat(256)));
+    }
+}
@@ -1,5 +1,7 @@
 package ke.co.statum.sdk.config;
 
+import ke.co.statum.sdk.resilience.RateLimiter;
+import ke.co.statum.sdk.resilience.TokenBucketRateLimiter;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
@@ -68,4 +70,61 @@ class StatumConfigTest {
         assertNotNull(config.getBaseUrl());
         assertNotNull(config.getTimeout());
     }
+
+    @Test
+    void builder_shouldUseDefaults_whenOptionsNotSet() {
+        StatumConfig config = StatumConfig.builder("key", "secret").build();
+
+        assertEquals("https://api.statum.co.ke/api/v2", config.getBaseUrl());
+        assertEquals(Duration.ofSeconds(30), config.getTimeout());
+        assertSame(RateLimiter.unlimited(), config.getRateLimiter());
+    }
+
+    @Test
+    void builder_shouldApplyRateLimiter() {
+        RateLimiter limiter = TokenBucketRateLimiter.builder().limit("/sms", 10, 10).build();
+
+        StatumConfig config = StatumConfig.builder("key", "secret").rateLimiter(limiter).build();
+
+        assertSame(limiter, config.getRateLimiter());
+    }
+
+    @Test
+    void builder_shouldThrowException_whenRateLimiterIsNull() {
+        assertThrows(NullPointerException.class, () -> {
+            StatumConfig.builder("key", "secret").rateLimiter(null).build();
+        });
+    }
+
+    @Test
+    void builder_shouldDefaultResponseTimeoutToTimeoutAndLeaveDeadlineUnbounded() {
+        StatumConfig config = StatumConfig.builder("key", "secret").timeout(Duration.ofSeconds(5)).build();
+
+        assertEquals(Duration.ofSeconds(5), config.getResponseTimeout());
+        assertNull(config.getRequestDeadline());
+        assertTrue(config.getEndpointResponseTimeouts().isEmpty());
+    }
+
+    @Test
+    void builder_shouldNormalizeEndpointResponseTimeoutKeys() {
+        StatumConfig config = StatumConfig.builder("key", "secret")
+                .endpointResponseTimeout("account-details", Duration.ofSeconds(2))
+                .build();
+
+        assertEquals(Duration.ofSeconds(2), config.getEndpointResponseTimeouts().get("/account-details"));
+    }
+
+    @Test
+    void builder_shouldThrowException_whenDeadlineIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            StatumConfig.builder("key", "secret").requestDeadline(Duration.ZERO).build();
+        });
+    }
+
+    @Test
+    void builder_shouldThrowException_whenExecutorAndVirtualThreadsBothSet() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            StatumConfig.builder("key", "secret").executor(Runnable::run).virtualThreads(true).build();
+        });
+    }
 }
@@ -13,6 +13,8 @@ import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.Map;
 
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -51,7 +53,7 @@ class HttpClientProviderBugFixTest {
         when(mockResponse.statusCode()).thenReturn(422);
         when(mockResponse.body()).thenReturn(json);
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             httpClientProvider.get("/test", ApiResponse.class);
@@ -84,7 +86,7 @@ class HttpClientProviderBugFixTest {
         when(mockResponse.statusCode()).thenReturn(422);
         when(mockResponse.body()).thenReturn(json);
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             httpClientProvider.get("/test", ApiResponse.class);
@@ -0,0 +1,140 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HttpClientProviderIdempotencyTest {
+
+    private HttpClient mockHttpClient;
+    private HttpResponse<String> okResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockHttpClient = mock(HttpClient.class);
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(200);
+        lenient().when(response.body())
+                .thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
+        okResponse = response;
+    }
+
+    @Test
+    void post_shouldGenerateDistinctIdempotencyKeyPerCall() throws IOException, InterruptedException {
+        HttpClientProvider provider = new HttpClientProvider(new StatumConfig("key", "secret"), mockHttpClient);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(okResponse));
+
+        provider.post("/sms", new HashMap<>(), ApiResponse.class);
+        provider.post("/sms", new HashMap<>(), ApiResponse.class);
+
+        List<String> keys = sentIdempotencyKeys(2);
+        assertFalse(keys.get(0).isBlank());
+        assertNotEquals(keys.get(0), keys.get(1));
+    }
+
+    @Test
+    void post_shouldReuseCallerKeyAcrossRetries() throws IOException, InterruptedException {
+        StatumConfig config = StatumConfig.builder("key", "secret")
+                .postRetryPolicy(RetryPolicy.builder().maxAttempts(2).initialBackoff(Duration.ZERO).build())
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Read timed out"))
+                .thenAnswer(decoding(okResponse));
+
+        provider.post("/airtime", new HashMap<>(), ApiResponse.class,
+                RequestOptions.defaults().withIdempotencyKey("payment-1"));
+
+        assertEquals(List.of("payment-1", "payment-1"), sentIdempotencyKeys(2));
+    }
+
+    @Test
+    void post_shouldShortCircuitDuplicateSubmissionWithinWindow() throws IOException, InterruptedException {
+        HttpClientProvider provider = new HttpClientProvider(new StatumConfig("key", "secret"), mockHttpClient);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(okResponse));
+        RequestOptions options = RequestOptions.defaults().withIdempotencyKey("payment-1");
+
+        ApiResponse first = provider.post("/airtime", new HashMap<>(), ApiResponse.class, options);
+        ApiResponse second = provider.post("/airtime", new HashMap<>(), ApiResponse.class, options);
+        ApiResponse third = provider.postAsync("/airtime", new HashMap<>(), ApiResponse.class, options).join();
+
+        assertSame(first, second);
+        assertSame(first, third);
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        verify(mockHttpClient, never()).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void post_shouldSendAgainAfterFailedAttempt() throws IOException, InterruptedException {
+        HttpClientProvider provider = new HttpClientProvider(new StatumConfig("key", "secret"), mockHttpClient);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Connection reset"))
+                .thenAnswer(decoding(okResponse));
+        RequestOptions options = RequestOptions.defaults().withIdempotencyKey("payment-1");
+
+        assertThrows(NetworkException.class,
+                () -> provider.post("/airtime", new HashMap<>(), ApiResponse.class, options));
+        ApiResponse retried = provider.post("/airtime", new HashMap<>(), ApiResponse.class, options);
+
+        assertEquals("123", retried.requestId());
+        assertEquals(List.of("payment-1", "payment-1"), sentIdempotencyKeys(2));
+    }
+
+    @Test
+    void post_shouldNotDeduplicate_whenWindowDisabled() throws IOException, InterruptedException {
+        StatumConfig config = StatumConfig.builder("key", "secret").idempotencyWindow(Duration.ZERO).build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(okResponse));
+        RequestOptions options = RequestOptions.defaults().withIdempotencyKey("payment-1");
+
+        provider.post("/airtime", new HashMap<>(), ApiResponse.class, options);
+        provider.post("/airtime", new HashMap<>(), ApiResponse.class, options);
+
+        verify(mockHttpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void idempotencyCache_shouldJoinInFlightSubmission() {
+        IdempotencyCache cache = new IdempotencyCache(Duration.ofMinutes(1));
+        CompletableFuture<Object> first = new CompletableFuture<>();
+
+        assertNull(cache.claim("/airtime k", first));
+        CompletableFuture<Object> joined = cache.claim("/airtime k", new CompletableFuture<>());
+
+        assertSame(first, joined);
+        first.completeExceptionally(new NetworkException("Request failed", new IOException()));
+        assertEquals(0, cache.size());
+    }
+
+    private List<String> sentIdempotencyKeys(int expectedCalls) throws IOException, InterruptedException {
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient, times(expectedCalls)).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        return captor.getAllValues().stream()
+                .map(request -> request.headers().firstValue("Idempotency-Key").orElseThrow())
+                .toList();
+    }
+}
@@ -0,0 +1,160 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.exceptions.ValidationException;
+import ke.co.statum.sdk.metrics.EndpointMetrics;
+import ke.co.statum.sdk.metrics.InMemoryStatumMetrics;
+import ke.co.statum.sdk.metrics.StatumMetrics;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.resilience.ConcurrencyLimitConfig;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HttpClientProviderMetricsTest {
+
+    private static final String OK_BODY = "{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}";
+
+    private HttpClient mockHttpClient;
+    private InMemoryStatumMetrics metrics;
+    private HttpClientProvider httpClientProvider;
+
+    @BeforeEach
+    void setUp() {
+        mockHttpClient = mock(HttpClient.class);
+        metrics = new InMemoryStatumMetrics();
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(RetryPolicy.builder().maxAttempts(2).initialBackoff(Duration.ZERO).build())
+                .metrics(metrics)
+                .build();
+        httpClientProvider = new HttpClientProvider(config, mockHttpClient);
+    }
+
+    @Test
+    void post_shouldRecordLatencyStatusAndBytes() throws IOException, InterruptedException {
+        HttpResponse<String> ok = response(200, OK_BODY);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(decoding(ok));
+
+        httpClientProvider.post("sms", Map.of("message", "Hi"), ApiResponse.class);
+
+        EndpointMetrics sms = metrics.getEndpoint("/sms");
+        assertEquals(1, sms.getLatency().getCount());
+        assertEquals(1, sms.getResponses(2));
+        assertEquals("{\"message\":\"Hi\"}".length(), sms.getBytesSent());
+        assertEquals(OK_BODY.length(), sms.getBytesReceived());
+        assertEquals(0, sms.getInFlight());
+        assertTrue(sms.getCallFailures().isEmpty());
+    }
+
+    @Test
+    void get_shouldCountEachAttemptAndTheFinalFailure() throws IOException, InterruptedException {
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new HttpTimeoutException("request timed out"));
+
+        assertThrows(NetworkException.class, () -> httpClientProvider.get("/account-details", ApiResponse.class));
+
+        EndpointMetrics account = metrics.getEndpoint("/account-details");
+        assertEquals(2, account.getLatency().getCount());
+        assertEquals(Map.of(HttpTimeoutException.class.getName(), 2L), account.getAttemptErrors());
+        assertEquals(Map.of(NetworkException.class.getName(), 1L), account.getCallFailures());
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    @Test
+    void postAsync_shouldRecordErrorStatusAndMappedException() {
+        HttpResponse<String> invalid = response(422, "{\"phone_number\":[\"invalid\"]}");
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decodingAsync(invalid));
+
+        CompletableFuture<ApiResponse> future = httpClientProvider.postAsync("/sms", Map.of(), ApiResponse.class);
+
+        assertThrows(Exception.class, future::join);
+        EndpointMetrics sms = metrics.getEndpoint("/sms");
+        assertEquals(1, sms.getResponses(4));
+        assertEquals(Map.of(ValidationException.class.getName(), 1L), sms.getCallFailures());
+    }
+
+    @Test
+    void post_shouldSucceedAndFreeItsSlot_whenMetricsThrow() throws IOException, InterruptedException {
+        HttpClientProvider provider = throwingMetricsProvider();
+        HttpResponse<String> ok = response(200, OK_BODY);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(decoding(ok));
+
+        ApiResponse response = provider.post("/sms", Map.of(), ApiResponse.class);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(0, provider.getConcurrencyLimiter("/sms").getInFlight());
+    }
+
+    @Test
+    void postAsync_shouldComplete_whenMetricsThrow() throws Exception {
+        HttpClientProvider provider = throwingMetricsProvider();
+        HttpResponse<String> invalid = response(422, "{\"phone_number\":[\"invalid\"]}");
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decodingAsync(invalid));
+
+        CompletableFuture<ApiResponse> future = provider.postAsync("/sms", Map.of(), ApiResponse.class);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ValidationException.class, failure.getCause());
+        assertEquals(0, provider.getConcurrencyLimiter("/sms").getInFlight());
+    }
+
+    private HttpClientProvider throwingMetricsProvider() {
+        StatumMetrics throwing = new StatumMetrics() {
+            @Override
+            public void onAttemptStart(String endpoint) {
+                throw new IllegalStateException("metrics failure");
+            }
+
+            @Override
+            public void onAttemptEnd(String endpoint, int statusCode, long durationNanos, long bytesSent,
+                    long bytesReceived) {
+                throw new IllegalStateException("metrics failure");
+            }
+
+            @Override
+            public void onCallFailed(String endpoint, Throwable error) {
+                throw new IllegalStateException("metrics failure");
+            }
+
+            @Override
+            public void onConcurrencyLimitChanged(String endpoint, int limit) {
+                throw new IllegalStateException("metrics failure");
+            }
+        };
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(1).build())
+                .metrics(throwing)
+                .build();
+        return new HttpClientProvider(config, mockHttpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> response(int status, String body) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(status);
+        lenient().when(response.body()).thenReturn(body);
+        lenient().when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        return response;
+    }
+}
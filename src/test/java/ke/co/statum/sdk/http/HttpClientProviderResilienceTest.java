@@ -0,0 +1,319 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.CircuitBreakerOpenException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.exceptions.RateLimitException;
+import ke.co.statum.sdk.metrics.InMemoryStatumMetrics;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.resilience.CircuitBreaker;
+import ke.co.statum.sdk.resilience.CircuitBreakerConfig;
+import ke.co.statum.sdk.resilience.ConcurrencyLimitConfig;
+import ke.co.statum.sdk.resilience.ConcurrencyLimiter;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import ke.co.statum.sdk.resilience.RetryStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HttpClientProviderResilienceTest {
+
+    private static final String OK_BODY = "{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}";
+
+    private HttpClient mockHttpClient;
+    private HttpClientProvider httpClientProvider;
+
+    @BeforeEach
+    void setUp() {
+        RetryPolicy fastRetries = RetryPolicy.builder()
+                .maxAttempts(3)
+                .initialBackoff(Duration.ZERO)
+                .build();
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(fastRetries)
+                .build();
+        mockHttpClient = mock(HttpClient.class);
+        httpClientProvider = new HttpClientProvider(config, mockHttpClient);
+    }
+
+    @Test
+    void get_shouldRetryRetryableStatusUntilSuccess() throws IOException, InterruptedException {
+        HttpResponse<String> unavailable = response(503, "{}", Map.of());
+        HttpResponse<String> ok = response(200, OK_BODY, Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(unavailable, ok));
+
+        ApiResponse result = httpClientProvider.get("/account-details", ApiResponse.class);
+
+        assertEquals("123", result.requestId());
+        verify(mockHttpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        RetryStats stats = httpClientProvider.getRetryStats();
+        assertEquals(2, stats.getAttempts());
+        assertEquals(1, stats.getRetries());
+        assertEquals(1, stats.getRecoveredCalls());
+    }
+
+    @Test
+    void get_shouldRetryNetworkErrorsAndGiveUpAfterMaxAttempts() throws IOException, InterruptedException {
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Connection reset"));
+
+        assertThrows(NetworkException.class, () -> httpClientProvider.get("/account-details", ApiResponse.class));
+
+        verify(mockHttpClient, times(3)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertEquals(1, httpClientProvider.getRetryStats().getExhaustedCalls());
+    }
+
+    @Test
+    void get_shouldNotRetryNonRetryableStatus() throws IOException, InterruptedException {
+        HttpResponse<String> serverError = response(500, "{}", Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(serverError));
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> httpClientProvider.get("/account-details", ApiResponse.class));
+
+        assertEquals(500, exception.getStatusCode());
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void post_shouldNotRetryByDefault() throws IOException, InterruptedException {
+        HttpResponse<String> unavailable = response(503, "{}", Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(unavailable));
+
+        assertThrows(ApiException.class, () -> httpClientProvider.post("/sms", new HashMap<>(), ApiResponse.class));
+
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void post_shouldUsePostRetryPolicy_whenConfigured() throws IOException, InterruptedException {
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .postRetryPolicy(RetryPolicy.builder().maxAttempts(2).initialBackoff(Duration.ZERO).build())
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> gatewayTimeout = response(504, "{}", Map.of());
+        HttpResponse<String> ok = response(200, OK_BODY, Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(gatewayTimeout, ok));
+
+        assertEquals("123", provider.post("/sms", new HashMap<>(), ApiResponse.class).requestId());
+    }
+
+    @Test
+    void get_shouldThrowRateLimitException_whenRetryAfterExceedsMaximum() throws IOException, InterruptedException {
+        HttpResponse<String> throttled = response(429, "{}", Map.of("Retry-After", List.of("120")));
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(throttled));
+
+        RateLimitException exception = assertThrows(RateLimitException.class,
+                () -> httpClientProvider.get("/account-details", ApiResponse.class));
+
+        assertEquals(429, exception.getStatusCode());
+        assertEquals(Duration.ofSeconds(120), exception.getRetryAfter().orElseThrow());
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void getAsync_shouldRetryUntilSuccess() {
+        HttpResponse<String> throttled = response(429, "{}", Map.of("Retry-After", List.of("0")));
+        HttpResponse<String> ok = response(200, OK_BODY, Map.of());
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection reset")))
+                .thenAnswer(decodingAsync(throttled))
+                .thenAnswer(decodingAsync(ok));
+
+        ApiResponse result = httpClientProvider.getAsync("/account-details", ApiResponse.class).join();
+
+        assertEquals("123", result.requestId());
+        assertEquals(2, httpClientProvider.getRetryStats().getRetries());
+    }
+
+    @Test
+    void parseRetryAfter_shouldAcceptSecondsAndHttpDates() {
+        assertEquals(Duration.ofSeconds(5),
+                HttpClientProvider.parseRetryAfter(response(429, "", Map.of("Retry-After", List.of("5")))));
+        assertEquals(Duration.ZERO, HttpClientProvider.parseRetryAfter(
+                response(429, "", Map.of("Retry-After", List.of("Wed, 21 Oct 2015 07:28:00 GMT")))));
+        assertNull(HttpClientProvider.parseRetryAfter(response(429, "", Map.of("Retry-After", List.of("soon")))));
+        assertNull(HttpClientProvider.parseRetryAfter(response(429, "", Map.of())));
+    }
+
+    @Test
+    void circuitBreaker_shouldFailFastOnceOpen() throws IOException, InterruptedException {
+        List<CircuitBreaker.State> states = new ArrayList<>();
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(RetryPolicy.none())
+                .circuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .build())
+                .circuitBreakerListener((endpoint, from, to) -> states.add(to))
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> unavailable = response(503, "{}", Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(unavailable));
+
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+        CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+                () -> provider.get("/account-details", ApiResponse.class));
+        CompletableFuture<ApiResponse> async = provider.getAsync("account-details", ApiResponse.class);
+
+        assertEquals("/account-details", exception.getEndpoint());
+        assertTrue(async.isCompletedExceptionally());
+        assertEquals(List.of(CircuitBreaker.State.OPEN), states);
+        assertEquals(CircuitBreaker.State.CLOSED, provider.getCircuitBreaker("/sms").getState());
+        verify(mockHttpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        verify(mockHttpClient, never()).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void circuitBreaker_shouldIgnoreClientErrors() throws IOException, InterruptedException {
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .circuitBreaker(CircuitBreakerConfig.builder().slidingWindowSize(2).minimumNumberOfCalls(2).build())
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> invalid = response(422, "{}", Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(invalid));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ApiException.class, () -> provider.post("/sms", new HashMap<>(), ApiResponse.class));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, provider.getCircuitBreaker("/sms").getState());
+    }
+
+    @Test
+    void unexpectedSendFailure_shouldGiveBackHalfOpenPermitAndSlot() throws IOException, InterruptedException {
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(RetryPolicy.none())
+                .circuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .waitDurationInOpenState(Duration.ZERO)
+                        .permittedCallsInHalfOpenState(1)
+                        .build())
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(1).build())
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> unavailable = response(503, "{}", Map.of());
+        HttpResponse<String> ok = response(200, OK_BODY, Map.of());
+        Answer<HttpResponse<?>> answers = decoding(unavailable, unavailable, ok);
+        IllegalArgumentException unexpected = new IllegalArgumentException("unexpected");
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(answers)
+                .thenAnswer(answers)
+                .thenThrow(unexpected)
+                .thenAnswer(answers);
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+
+        assertSame(unexpected, assertThrows(IllegalArgumentException.class,
+                () -> provider.get("/account-details", ApiResponse.class)));
+
+        assertEquals(0, provider.getConcurrencyLimiter("/account-details").getInFlight());
+        assertEquals("123", provider.get("/account-details", ApiResponse.class).requestId());
+        assertEquals(CircuitBreaker.State.CLOSED, provider.getCircuitBreaker("/account-details").getState());
+    }
+
+    @Test
+    void interruptedSend_shouldKeepTheInterruptFlag() throws IOException, InterruptedException {
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new InterruptedException());
+
+        try {
+            assertThrows(NetworkException.class, () -> httpClientProvider.get("/account-details", ApiResponse.class));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void concurrencyLimit_shouldQueueAsyncCallsOverTheLimit() {
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(1).build())
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> ok = response(200, OK_BODY, Map.of());
+        List<Runnable> answers = new ArrayList<>();
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<HttpResponse<?>> future = new CompletableFuture<>();
+                    answers.add(() -> future.complete(StubResponses.decode(ok, invocation.getArgument(0),
+                            invocation.getArgument(1))));
+                    return future;
+                });
+
+        CompletableFuture<ApiResponse> first = provider.postAsync("/sms", new HashMap<>(), ApiResponse.class);
+        CompletableFuture<ApiResponse> second = provider.postAsync("/sms", new HashMap<>(), ApiResponse.class);
+        ConcurrencyLimiter limiter = provider.getConcurrencyLimiter("sms");
+
+        assertEquals(1, answers.size());
+        assertEquals(1, limiter.getQueued());
+
+        answers.get(0).run();
+        assertEquals("123", first.join().requestId());
+        assertEquals(2, answers.size());
+
+        answers.get(1).run();
+        assertEquals("123", second.join().requestId());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void concurrencyLimit_shouldShrinkOnDroppedCallsAndReportTheLimit() throws IOException, InterruptedException {
+        InMemoryStatumMetrics metrics = new InMemoryStatumMetrics();
+        StatumConfig config = StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(RetryPolicy.none())
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(10).backoffRatio(0.5).build())
+                .metrics(metrics)
+                .build();
+        HttpClientProvider provider = new HttpClientProvider(config, mockHttpClient);
+        HttpResponse<String> unavailable = response(503, "{}", Map.of());
+        HttpResponse<String> invalid = response(422, "{}", Map.of());
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(unavailable, invalid));
+
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+        assertThrows(ApiException.class, () -> provider.get("/account-details", ApiResponse.class));
+
+        ConcurrencyLimiter limiter = provider.getConcurrencyLimiter("/account-details");
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(5, metrics.getEndpoint("/account-details").getConcurrencyLimit());
+    }
+
+    private static HttpResponse<String> response(int status, String body, Map<String, List<String>> headers) {
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(status);
+        lenient().when(response.body()).thenReturn(body);
+        lenient().when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+}
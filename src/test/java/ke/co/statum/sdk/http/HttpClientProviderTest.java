@@ -3,19 +3,38 @@ package ke.co.statum.sdk.http;
 import ke.co.statum.sdk.config.StatumConfig;
 import ke.co.statum.sdk.exceptions.*;
 import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.resilience.RateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpClientProviderTest {
@@ -38,7 +57,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(401);
         when(mockResponse.body()).thenReturn("{\"error\":\"Unauthorized\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("test", "value");
@@ -58,7 +77,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(403);
         when(mockResponse.body()).thenReturn("{\"error\":\"Forbidden\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         Map<String, String> requestBody = new HashMap<>();
 
@@ -76,7 +95,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(422);
         when(mockResponse.body()).thenReturn("{\"phone_number\":[\"Invalid format\"]}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         Map<String, String> requestBody = new HashMap<>();
 
@@ -95,7 +114,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(500);
         when(mockResponse.body()).thenReturn("{\"error\":\"Internal Server Error\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         Map<String, String> requestBody = new HashMap<>();
 
@@ -144,7 +163,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(401);
         when(mockResponse.body()).thenReturn("{\"error\":\"Unauthorized\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         AuthenticationException exception = assertThrows(AuthenticationException.class, () -> {
             httpClientProvider.get("/test", ApiResponse.class);
@@ -167,7 +186,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(200);
         when(mockResponse.body()).thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         // Config with trailing slash
         StatumConfig configWithSlash = new StatumConfig("key", "secret", "https://api.statum.co.ke/api/v2/",
@@ -190,7 +209,7 @@ class HttpClientProviderTest {
         when(mockResponse.statusCode()).thenReturn(200);
         when(mockResponse.body()).thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+                .thenAnswer(decoding(mockResponse));
 
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("test", "value");
@@ -200,4 +219,245 @@ class HttpClientProviderTest {
             httpClientProvider.post("airtime", requestBody, ApiResponse.class);
         });
     }
+
+    @Test
+    void template_shouldBeSharedForKnownEndpointsWithOrWithoutLeadingSlash() {
+        StatumConfig configWithSlash = new StatumConfig("key", "secret", "https://api.statum.co.ke/api/v2//",
+                config.getTimeout());
+        HttpClientProvider providerWithSlash = new HttpClientProvider(configWithSlash, mockHttpClient);
+
+        RequestTemplate sms = providerWithSlash.template("/sms");
+
+        assertSame(sms, providerWithSlash.template("sms"));
+        assertEquals("https://api.statum.co.ke/api/v2/sms", sms.getUri().toString());
+        assertNotSame(providerWithSlash.template("/other"), providerWithSlash.template("/other"));
+    }
+
+    @Test
+    void requests_shouldCarryTemplateHeaders() throws IOException, InterruptedException {
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> mockResponse = mock(HttpResponse.class);
+        when(mockResponse.statusCode()).thenReturn(200);
+        when(mockResponse.body()).thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(mockResponse));
+
+        httpClientProvider.post("/sms", Map.of(), ApiResponse.class);
+        httpClientProvider.post("/sms", Map.of(), ApiResponse.class);
+        httpClientProvider.get("/account-details", ApiResponse.class);
+
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient, times(3)).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        HttpRequest first = captor.getAllValues().get(0);
+        HttpRequest second = captor.getAllValues().get(1);
+        HttpRequest get = captor.getAllValues().get(2);
+        assertEquals("POST", first.method());
+        assertEquals("application/json", first.headers().firstValue("Content-Type").orElseThrow());
+        assertTrue(first.headers().firstValue("Authorization").orElseThrow().startsWith("Basic "));
+        assertNotEquals(first.headers().firstValue("Idempotency-Key"), second.headers().firstValue("Idempotency-Key"));
+        assertEquals(1, second.headers().allValues("Idempotency-Key").size());
+        assertEquals("GET", get.method());
+        assertTrue(get.headers().firstValue("Content-Type").isEmpty());
+        assertTrue(get.headers().firstValue("Idempotency-Key").isEmpty());
+    }
+
+    @Test
+    void postAsync_shouldReturnResponse_when200() {
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> mockResponse = mock(HttpResponse.class);
+        when(mockResponse.statusCode()).thenReturn(200);
+        when(mockResponse.body()).thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decodingAsync(mockResponse));
+
+        ApiResponse response = httpClientProvider.postAsync("/sms", new HashMap<>(), ApiResponse.class).join();
+
+        assertEquals(200, response.statusCode());
+        assertEquals("123", response.requestId());
+    }
+
+    @Test
+    void postAsync_shouldCompleteWithValidationException_when422() {
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> mockResponse = mock(HttpResponse.class);
+        when(mockResponse.statusCode()).thenReturn(422);
+        when(mockResponse.body()).thenReturn("{\"phone_number\":[\"Invalid format\"]}");
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decodingAsync(mockResponse));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> httpClientProvider.postAsync("/sms", new HashMap<>(), ApiResponse.class).join());
+
+        ValidationException cause = assertInstanceOf(ValidationException.class, exception.getCause());
+        assertEquals(java.util.List.of("Invalid format"), cause.getValidationErrors().get("phone_number"));
+    }
+
+    @Test
+    void getAsync_shouldCompleteWithNetworkException_whenIOExceptionOccurs() {
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> httpClientProvider.getAsync("/account-details", ApiResponse.class).join());
+
+        NetworkException cause = assertInstanceOf(NetworkException.class, exception.getCause());
+        assertInstanceOf(IOException.class, cause.getCause());
+    }
+
+    @Test
+    void requests_shouldAcquireRateLimitPermitPerEndpoint() throws IOException, InterruptedException {
+        List<String> acquired = new ArrayList<>();
+        RateLimiter recordingLimiter = new RateLimiter() {
+            @Override
+            public void acquire(String endpoint) {
+                acquired.add(endpoint);
+            }
+
+            @Override
+            public CompletableFuture<Void> acquireAsync(String endpoint) {
+                acquired.add(endpoint);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        StatumConfig limitedConfig = StatumConfig.builder("key", "secret").rateLimiter(recordingLimiter).build();
+        HttpClientProvider provider = new HttpClientProvider(limitedConfig, mockHttpClient);
+
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> mockResponse = mock(HttpResponse.class);
+        when(mockResponse.statusCode()).thenReturn(200);
+        when(mockResponse.body()).thenReturn("{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}");
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(mockResponse));
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decodingAsync(mockResponse));
+
+        provider.post("sms", new HashMap<>(), ApiResponse.class);
+        provider.postAsync("/airtime", new HashMap<>(), ApiResponse.class).join();
+        provider.get("/account-details", ApiResponse.class);
+
+        assertEquals(List.of("/sms", "/airtime", "/account-details"), acquired);
+    }
+
+    @Test
+    void newHttpClient_shouldApplyVersionAndExecutor() {
+        Executor executor = Runnable::run;
+        StatumConfig custom = StatumConfig.builder("testKey", "testSecret")
+                .executor(executor)
+                .httpVersion(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        HttpClient client = HttpClientProvider.newHttpClient(custom);
+
+        assertEquals(HttpClient.Version.HTTP_1_1, client.version());
+        assertSame(executor, client.executor().orElseThrow());
+        assertEquals(custom.getTimeout(), client.connectTimeout().orElseThrow());
+    }
+
+    @Test
+    void newHttpClient_shouldUseVirtualThreadsOnlyWhenAvailable() {
+        StatumConfig virtual = StatumConfig.builder("testKey", "testSecret").virtualThreads(true).build();
+
+        HttpClient client = HttpClientProvider.newHttpClient(virtual);
+
+        assertEquals(VirtualThreads.isAvailable(), client.executor().isPresent());
+        assertEquals(HttpClient.Version.HTTP_2, client.version());
+    }
+
+    @Test
+    void warmUp_shouldSendSingleHeadProbe_whenHttp2IsNegotiated() {
+        HttpResponse<?> probeResponse = mock(HttpResponse.class);
+        when(probeResponse.version()).thenReturn(HttpClient.Version.HTTP_2);
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(probeResponse));
+
+        assertEquals(HttpClient.Version.HTTP_2, httpClientProvider.warmUp(4));
+
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient, times(1)).sendAsync(captor.capture(), any(HttpResponse.BodyHandler.class));
+        assertEquals("HEAD", captor.getValue().method());
+        assertEquals(config.getBaseUrl(), captor.getValue().uri().toString());
+        assertTrue(captor.getValue().headers().firstValue("Authorization").isEmpty());
+    }
+
+    @Test
+    void warmUp_shouldOpenRequestedConnections_whenOnlyHttp11IsAvailable() throws IOException {
+        try (KeepAliveServer server = new KeepAliveServer()) {
+            StatumConfig local = StatumConfig.builder("testKey", "testSecret")
+                    .baseUrl("http://127.0.0.1:" + server.port())
+                    .httpVersion(HttpClient.Version.HTTP_1_1)
+                    .build();
+            HttpClientProvider provider = new HttpClientProvider(local);
+
+            assertEquals(HttpClient.Version.HTTP_1_1, provider.warmUp(3));
+
+            assertEquals(3, server.accepted.get());
+        }
+    }
+
+    @Test
+    void warmUp_shouldThrowNetworkException_whenBaseUrlIsUnreachable() {
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+        assertThrows(NetworkException.class, () -> httpClientProvider.warmUp(1));
+        assertThrows(IllegalArgumentException.class, () -> httpClientProvider.warmUp(0));
+    }
+
+    /**
+     * Plain HTTP/1.1 server that keeps connections alive and counts accepted
+     * sockets. Each response is held back briefly so that concurrent requests
+     * cannot share a connection.
+     */
+    private static final class KeepAliveServer implements AutoCloseable {
+        private final ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        private final AtomicInteger accepted = new AtomicInteger();
+
+        KeepAliveServer() throws IOException {
+            Thread acceptor = new Thread(this::acceptLoop, "keep-alive-server");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return socket.getLocalPort();
+        }
+
+        private void acceptLoop() {
+            while (true) {
+                Socket connection;
+                try {
+                    connection = socket.accept();
+                } catch (IOException closed) {
+                    return;
+                }
+                accepted.incrementAndGet();
+                Thread handler = new Thread(() -> serve(connection));
+                handler.setDaemon(true);
+                handler.start();
+            }
+        }
+
+        private static void serve(Socket connection) {
+            try (connection) {
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.US_ASCII));
+                OutputStream out = connection.getOutputStream();
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        Thread.sleep(200);
+                        out.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                        out.flush();
+                    }
+                }
+            } catch (IOException | InterruptedException ignored) {
+                // Client went away or the test is over.
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.config.StatumConfig;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.DeadlineExceededException;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.resilience.ConcurrencyLimitConfig;
+import ke.co.statum.sdk.resilience.RateLimiter;
+import ke.co.statum.sdk.resilience.RetryPolicy;
+import ke.co.statum.sdk.resilience.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static ke.co.statum.sdk.http.StubResponses.decoding;
+import static ke.co.statum.sdk.http.StubResponses.decodingAsync;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HttpClientProviderTimeoutTest {
+
+    private static final String OK_BODY = "{\"status_code\":200,\"description\":\"OK\",\"request_id\":\"123\"}";
+
+    private final HttpClient mockHttpClient = mock(HttpClient.class);
+
+    @Test
+    void requests_shouldCarryConfiguredResponseTimeout() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .responseTimeout(Duration.ofSeconds(20))
+                .endpointResponseTimeout("account-details", Duration.ofSeconds(2)));
+        stubOk();
+
+        provider.get("/account-details", ApiResponse.class);
+        provider.post("/sms", Map.of(), ApiResponse.class);
+
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient, times(2)).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        assertEquals(Duration.ofSeconds(2), captor.getAllValues().get(0).timeout().orElseThrow());
+        assertEquals(Duration.ofSeconds(20), captor.getAllValues().get(1).timeout().orElseThrow());
+    }
+
+    @Test
+    void requests_shouldDefaultResponseTimeoutToConnectTimeout() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .timeout(Duration.ofSeconds(7)));
+        stubOk();
+
+        provider.get("/account-details", ApiResponse.class);
+
+        assertEquals(Duration.ofSeconds(7), captureSent().timeout().orElseThrow());
+    }
+
+    @Test
+    void options_shouldOverrideResponseTimeout() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .endpointResponseTimeout("/sms", Duration.ofSeconds(2)));
+        stubOk();
+
+        provider.post("/sms", Map.of(), ApiResponse.class,
+                RequestOptions.defaults().withResponseTimeout(Duration.ofMillis(500)));
+
+        assertEquals(Duration.ofMillis(500), captureSent().timeout().orElseThrow());
+    }
+
+    @Test
+    void deadline_shouldCapAttemptTimeoutToRemainingTime() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .responseTimeout(Duration.ofSeconds(30))
+                .requestDeadline(Duration.ofSeconds(1)));
+        stubOk();
+
+        provider.get("/account-details", ApiResponse.class);
+
+        Duration timeout = captureSent().timeout().orElseThrow();
+        assertTrue(timeout.compareTo(Duration.ofSeconds(1)) <= 0, "timeout was " + timeout);
+        assertFalse(timeout.isNegative() || timeout.isZero());
+    }
+
+    @Test
+    void deadline_shouldStopRetryingWhenBackoffWouldOverrunIt() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .retryPolicy(RetryPolicy.builder()
+                        .maxAttempts(5)
+                        .initialBackoff(Duration.ofSeconds(5))
+                        .jitter(0)
+                        .build()));
+        HttpResponse<String> unavailable = response(503, "{}");
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenAnswer(decoding(unavailable));
+
+        ApiException exception = assertThrows(ApiException.class, () -> provider.get("/account-details",
+                ApiResponse.class, RequestOptions.defaults().withDeadline(Duration.ofSeconds(1))));
+
+        assertEquals(503, exception.getStatusCode());
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertEquals(1, provider.getRetryStats().getExhaustedCalls());
+    }
+
+    @Test
+    void deadline_shouldFailBeforeSendingWhenRateLimitWaitConsumesIt() throws IOException, InterruptedException {
+        RateLimiter slowLimiter = new RateLimiter() {
+            @Override
+            public void acquire(String endpoint) throws InterruptedException {
+                Thread.sleep(50);
+            }
+
+            @Override
+            public CompletableFuture<Void> acquireAsync(String endpoint) {
+                return CompletableFuture.runAsync(() -> {
+                }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+            }
+        };
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .rateLimiter(slowLimiter)
+                .requestDeadline(Duration.ofMillis(10)));
+
+        assertThrows(DeadlineExceededException.class, () -> provider.get("/account-details", ApiResponse.class));
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> provider.getAsync("/account-details", ApiResponse.class).get());
+        assertInstanceOf(DeadlineExceededException.class, async.getCause());
+
+        verify(mockHttpClient, never()).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        verify(mockHttpClient, never()).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void deadline_shouldBoundTokenBucketWaits() throws IOException, InterruptedException {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .rateLimiter(TokenBucketRateLimiter.builder().limit("/account-details", 0.1, 1).build())
+                .requestDeadline(Duration.ofMillis(200)));
+        stubOk();
+        provider.get("/account-details", ApiResponse.class);
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> provider.get("/account-details", ApiResponse.class));
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> provider.getAsync("/account-details", ApiResponse.class).get());
+
+        assertInstanceOf(DeadlineExceededException.class, async.getCause());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        verify(mockHttpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void deadline_shouldBoundConcurrencyLimitWaits() {
+        HttpClientProvider provider = provider(StatumConfig.builder("testKey", "testSecret")
+                .concurrencyLimit(ConcurrencyLimitConfig.builder().initialLimit(1).build())
+                .requestDeadline(Duration.ofMillis(50)));
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(new CompletableFuture<>());
+        provider.getAsync("/account-details", ApiResponse.class);
+
+        assertThrows(DeadlineExceededException.class, () -> provider.get("/account-details", ApiResponse.class));
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> provider.getAsync("/account-details", ApiResponse.class).get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(DeadlineExceededException.class, async.getCause());
+        assertEquals(0, provider.getConcurrencyLimiter("/account-details").getQueued());
+        assertEquals(1, provider.getConcurrencyLimiter("/account-details").getInFlight());
+    }
+
+    @Test
+    void options_shouldRejectNonPositiveDurations() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestOptions.defaults().withResponseTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestOptions.defaults().withDeadline(Duration.ofSeconds(-1)));
+    }
+
+    private HttpClientProvider provider(StatumConfig.Builder config) {
+        return new HttpClientProvider(config.build(), mockHttpClient);
+    }
+
+    private void stubOk() throws IOException, InterruptedException {
+        HttpResponse<String> ok = response(200, OK_BODY);
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(decoding(ok));
+    }
+
+    private HttpRequest captureSent() throws IOException, InterruptedException {
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        return captor.getValue();
+    }
+
+    private static HttpResponse<String> response(int status, String body) {
+        @SuppressWarnings("unchecked")
+        HttpResponse<String> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(status);
+        lenient().when(response.body()).thenReturn(body);
+        lenient().when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        return response;
+    }
+}
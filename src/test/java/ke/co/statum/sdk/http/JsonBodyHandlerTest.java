@@ -0,0 +1,99 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.model.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonBodyHandlerTest {
+
+    private final JsonBodyHandler<ApiResponse> handler = JsonMappers.bodyHandler(ApiResponse.class);
+
+    @Test
+    void success_shouldDecodeBodySplitAcrossChunks() throws IOException {
+        byte[] json = "{\"status_code\":200,\"description\":\"Operation successful – ok\",\"request_id\":\"abc\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        // Three-byte chunks split the multi-byte dash and several tokens.
+        for (int i = 0; i < json.length; i += 3) {
+            chunks.add(ByteBuffer.wrap(json, i, Math.min(3, json.length - i)));
+        }
+
+        DecodedBody<ApiResponse> body = deliver(200, Map.of(), chunks);
+
+        ApiResponse response = body.valueOrThrow();
+        assertEquals(200, response.statusCode());
+        assertEquals("Operation successful – ok", response.description());
+        assertEquals("abc", response.requestId());
+        assertNull(body.errorBody());
+        assertEquals(json.length, body.length());
+    }
+
+    @Test
+    void error_shouldKeepRawBodyInDeclaredCharset() throws IOException {
+        byte[] raw = "{\"message\":\"café\"}".getBytes(StandardCharsets.ISO_8859_1);
+
+        DecodedBody<ApiResponse> body = deliver(422,
+                Map.of("Content-Type", List.of("application/json; charset=ISO-8859-1")),
+                List.of(ByteBuffer.wrap(raw)));
+
+        assertEquals("{\"message\":\"café\"}", body.errorBody());
+        assertNull(body.valueOrThrow());
+        assertEquals(raw.length, body.length());
+    }
+
+    @Test
+    void malformedSuccess_shouldCarryFailureInsteadOfFailingTheBody() {
+        DecodedBody<ApiResponse> body = deliver(200, Map.of(),
+                List.of(ByteBuffer.wrap("{\"status_code\":".getBytes(StandardCharsets.UTF_8))));
+
+        assertNotNull(body.failure());
+        assertThrows(IOException.class, body::valueOrThrow);
+    }
+
+    private DecodedBody<ApiResponse> deliver(int status, Map<String, List<String>> headers, List<ByteBuffer> chunks) {
+        HttpHeaders httpHeaders = HttpHeaders.of(headers, (name, value) -> true);
+        HttpResponse.BodySubscriber<DecodedBody<ApiResponse>> subscriber = handler.apply(
+                new HttpResponse.ResponseInfo() {
+                    @Override
+                    public int statusCode() {
+                        return status;
+                    }
+
+                    @Override
+                    public HttpHeaders headers() {
+                        return httpHeaders;
+                    }
+
+                    @Override
+                    public HttpClient.Version version() {
+                        return HttpClient.Version.HTTP_2;
+                    }
+                });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        for (ByteBuffer chunk : chunks) {
+            subscriber.onNext(List.of(chunk));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,74 @@
+package ke.co.statum.sdk.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.SmsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonBodyWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_shouldMatchJacksonForSmsRequest() throws Exception {
+        SmsRequest request = new SmsRequest("254712345678", "STATUM", "Habari \"rafiki\"\\ \n\t\u0001 café €");
+
+        byte[] json = JsonBodyWriter.write(request);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(request), json);
+    }
+
+    @Test
+    void write_shouldEncodeSupplementaryCharactersAsUtf8() throws Exception {
+        // Jackson escapes these as surrogate pairs; four raw UTF-8 bytes are equally valid and shorter.
+        SmsRequest request = new SmsRequest("254712345678", "STATUM", "Asante \uD83D\uDE00");
+
+        byte[] json = JsonBodyWriter.write(request);
+
+        assertEquals(request, objectMapper.readValue(json, SmsRequest.class));
+        assertTrue(new String(json, StandardCharsets.UTF_8).endsWith("Asante \uD83D\uDE00\"}"));
+    }
+
+    @Test
+    void write_shouldMatchJacksonForAirtimeRequest() throws Exception {
+        AirtimeRequest request = new AirtimeRequest("0712345678", "100.50");
+
+        byte[] json = JsonBodyWriter.write(request);
+
+        assertEquals("{\"phone_number\":\"0712345678\",\"amount\":\"100.50\"}",
+                new String(json, StandardCharsets.UTF_8));
+        assertArrayEquals(objectMapper.writeValueAsBytes(request), json);
+    }
+
+    @Test
+    void write_shouldEscapeUnpairedSurrogatesAndWriteNulls() throws Exception {
+        byte[] json = JsonBodyWriter.write(new SmsRequest(null, "S", "a\uD83Db"));
+
+        Map<?, ?> parsed = objectMapper.readValue(json, Map.class);
+        assertNull(parsed.get("phone_number"));
+        assertEquals("a\uD83Db", parsed.get("message"));
+    }
+
+    @Test
+    void write_shouldHandleMessagesLargerThanTheReusedBuffer() throws Exception {
+        String message = "€".repeat(10_000);
+
+        byte[] large = JsonBodyWriter.write(new SmsRequest("254712345678", "S", message));
+        byte[] small = JsonBodyWriter.write(new SmsRequest("254712345678", "S", "Hi"));
+
+        assertEquals(message, objectMapper.readValue(large, Map.class).get("message"));
+        assertEquals("{\"phone_number\":\"254712345678\",\"sender_id\":\"S\",\"message\":\"Hi\"}",
+                new String(small, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void supports_shouldOnlyAcceptSdkRequestRecords() {
+        assertTrue(JsonBodyWriter.supports(new AirtimeRequest("0712345678", "10")));
+        assertFalse(JsonBodyWriter.supports(Map.of("phone_number", "0712345678")));
+    }
+}
@@ -0,0 +1,46 @@
+package ke.co.statum.sdk.http;
+
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.SmsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMappersTest {
+
+    @Test
+    void readersWritersAndHandlers_shouldBeCachedPerType() {
+        assertSame(JsonMappers.reader(ApiResponse.class), JsonMappers.reader(ApiResponse.class));
+        assertSame(JsonMappers.writer(SmsRequest.class), JsonMappers.writer(SmsRequest.class));
+        assertSame(JsonMappers.bodyHandler(AccountDetailsResponse.class),
+                JsonMappers.bodyHandler(AccountDetailsResponse.class));
+    }
+
+    @Test
+    void blackbird_shouldBeRegisteredWhenOnClasspath() {
+        // The module is an optional dependency, so it is on the test classpath.
+        assertTrue(JsonMappers.isAccelerated());
+    }
+
+    @Test
+    void writeValueAsBytes_shouldUseSnakeCaseAndHandleNull() throws Exception {
+        record Body(String senderId) {
+        }
+
+        assertEquals("{\"sender_id\":\"Statum\"}",
+                new String(JsonMappers.writeValueAsBytes(new Body("Statum")), StandardCharsets.UTF_8));
+        assertEquals("null", new String(JsonMappers.writeValueAsBytes(null), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void mapReader_shouldReadUntypedObjects() throws Exception {
+        Map<String, Object> map = JsonMappers.mapReader().readValue("{\"phone_number\":[\"invalid\"]}");
+
+        assertEquals(Map.of("phone_number", List.of("invalid")), map);
+    }
+}
@@ -0,0 +1,114 @@
+package ke.co.statum.sdk.http;
+
+import org.mockito.stubbing.Answer;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers for stubbed {@code HttpClient.send}/{@code sendAsync} calls that run
+ * a stubbed response's status, headers and body through the {@code BodyHandler}
+ * the provider passed in, as the real client would.
+ */
+final class StubResponses {
+
+    private StubResponses() {
+    }
+
+    /**
+     * Answers successive {@code send} calls with {@code responses}, repeating
+     * the last one.
+     */
+    @SafeVarargs
+    static Answer<HttpResponse<?>> decoding(HttpResponse<String>... responses) {
+        AtomicInteger next = new AtomicInteger();
+        return invocation -> decode(responses[Math.min(next.getAndIncrement(), responses.length - 1)],
+                invocation.getArgument(0), invocation.getArgument(1));
+    }
+
+    /**
+     * Answers successive {@code sendAsync} calls with {@code responses},
+     * repeating the last one.
+     */
+    @SafeVarargs
+    static Answer<CompletableFuture<HttpResponse<?>>> decodingAsync(HttpResponse<String>... responses) {
+        Answer<HttpResponse<?>> decoding = decoding(responses);
+        return invocation -> CompletableFuture.completedFuture(decoding.answer(invocation));
+    }
+
+    static <T> HttpResponse<T> decode(HttpResponse<String> stub, HttpRequest request,
+            HttpResponse.BodyHandler<T> handler) {
+        int status = stub.statusCode();
+        HttpHeaders headers = stub.headers() != null
+                ? stub.headers()
+                : HttpHeaders.of(Map.of(), (name, value) -> true);
+        HttpResponse.BodySubscriber<T> subscriber = handler.apply(new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return status;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        String body = stub.body();
+        if (body != null && !body.isEmpty()) {
+            subscriber.onNext(List.of(ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8))));
+        }
+        subscriber.onComplete();
+        T decoded = subscriber.getBody().toCompletableFuture().join();
+        return new Decoded<>(status, headers, decoded, request);
+    }
+
+    private record Decoded<T>(int statusCode, HttpHeaders headers, T body, HttpRequest request)
+            implements HttpResponse<T> {
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
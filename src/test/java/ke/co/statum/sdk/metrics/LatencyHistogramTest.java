@@ -0,0 +1,49 @@
+package ke.co.statum.sdk.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentiles_shouldBeWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 0.001);
+        assertWithin(500_000, histogram.getValueAtPercentile(50));
+        assertWithin(990_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void emptyHistogram_shouldReportZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMean());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    void buckets_shouldCoverEveryValueContiguously() {
+        assertEquals(0, LatencyHistogram.indexOf(-0L));
+        assertEquals(63, LatencyHistogram.indexOf(63));
+        for (int index = 64; index < 64 + 32 * 40; index++) {
+            long highest = LatencyHistogram.highestValueIn(index);
+            assertEquals(index, LatencyHistogram.indexOf(highest));
+            assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1));
+        }
+        long top = LatencyHistogram.indexOf(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn((int) top));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.035, "expected ~" + expected + " but was " + actual);
+    }
+}
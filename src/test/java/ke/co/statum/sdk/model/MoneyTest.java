@@ -0,0 +1,82 @@
+package ke.co.statum.sdk.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void parseCents_shouldReadPlainDecimals() {
+        assertEquals(10_000, Money.parseCents("100"));
+        assertEquals(10_050, Money.parseCents("100.5"));
+        assertEquals(10_050, Money.parseCents("100.50"));
+        assertEquals(10_005, Money.parseCents("100.05"));
+        assertEquals(10_050, Money.parseCents("100.5000"));
+        assertEquals(5, Money.parseCents("0.05"));
+        assertEquals(500, Money.parseCents("005"));
+    }
+
+    @Test
+    void parseCents_shouldBeExactAtTheBounds() {
+        // 0.1 + 0.2 style surprises cannot happen: every accepted value maps to one integer.
+        assertEquals(499, Money.parseCents("4.99"));
+        assertEquals(1_000_001, Money.parseCents("10000.01"));
+    }
+
+    @Test
+    void parseCents_shouldRejectAnythingButPlainDecimals() {
+        for (String amount : new String[] { "", ".", ".5", "5.", "abc", "-5", "+5", "1e3", " 100", "100 ",
+                "1,000", "NaN", "Infinity", "0x10", "100d", "1.2.3" }) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> Money.parseCents(amount), amount);
+            assertTrue(exception.getMessage().contains("valid number"), amount);
+        }
+    }
+
+    @Test
+    void parseCents_shouldRejectFractionsOfACent() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> Money.parseCents("100.505"));
+        assertTrue(exception.getMessage().contains("fractions of a cent"));
+    }
+
+    @Test
+    void parseCents_shouldRejectOverflow() {
+        long maxUnits = (Long.MAX_VALUE - 99) / 100;
+        assertEquals(maxUnits * 100 + 99, Money.parseCents(maxUnits + ".99"));
+        assertThrows(IllegalArgumentException.class, () -> Money.parseCents((maxUnits + 1) + ""));
+        assertThrows(IllegalArgumentException.class, () -> Money.parseCents(Long.toString(Long.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> Money.parseCents("99999999999999999999"));
+    }
+
+    @Test
+    void parseCents_shouldRejectNull() {
+        assertThrows(NullPointerException.class, () -> Money.parseCents(null));
+    }
+
+    @Test
+    void toString_shouldAlwaysHaveTwoDecimals() {
+        assertEquals("100.00", Money.ofCents(10_000).toString());
+        assertEquals("100.05", Money.ofCents(10_005).toString());
+        assertEquals("0.50", Money.ofCents(50).toString());
+        assertEquals("-1.25", Money.ofCents(-125).toString());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString(), Money.format(Long.MIN_VALUE));
+    }
+
+    @Test
+    void parse_shouldRoundTripThroughToString() {
+        Money money = Money.parse("9999.9");
+        assertEquals(999_990, money.cents());
+        assertEquals(money, Money.parse(money.toString()));
+        assertEquals(new BigDecimal("9999.90"), money.toBigDecimal());
+    }
+
+    @Test
+    void compareTo_shouldOrderByCents() {
+        assertTrue(Money.ofCents(499).compareTo(Money.ofCents(500)) < 0);
+        assertEquals(0, Money.parse("5").compareTo(Money.ofCents(500)));
+    }
+}
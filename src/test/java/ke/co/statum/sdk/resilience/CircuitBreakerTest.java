@@ -0,0 +1,141 @@
+package ke.co.statum.sdk.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+                .failureRateThreshold(50)
+                .slowCallDuration(Duration.ofSeconds(1))
+                .slowCallRateThreshold(75)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedCallsInHalfOpenState(2)
+                .build();
+        breaker = new CircuitBreaker("/sms", config,
+                (endpoint, from, to) -> transitions.add(endpoint + ":" + from + "->" + to), clock::get);
+    }
+
+    @Test
+    void shouldOpen_whenFailureRateReachesThreshold() {
+        call(true, FAST);
+        call(true, FAST);
+        call(false, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(false, FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(List.of("/sms:CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void shouldOpen_whenSlowCallRateReachesThreshold() {
+        call(true, SLOW);
+        call(true, SLOW);
+        call(true, SLOW);
+        call(true, FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void shouldOnlyConsiderSlidingWindow() {
+        call(false, FAST);
+        call(false, FAST);
+        call(true, FAST);
+        call(true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        openToClosed();
+        for (int i = 0; i < 10; i++) {
+            call(i % 4 != 0, FAST);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void shouldProbeWhileHalfOpenAndCloseOnSuccess() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(List.of("/sms:CLOSED->OPEN", "/sms:OPEN->HALF_OPEN", "/sms:HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void shouldReopen_whenProbesFail() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure(FAST);
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void releasePermission_shouldReturnHalfOpenProbe() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.releasePermission();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            call(false, FAST);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void openToClosed() {
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        call(true, FAST);
+        call(true, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void call(boolean success, long duration) {
+        assertTrue(breaker.tryAcquirePermission());
+        if (success) {
+            breaker.onSuccess(duration);
+        } else {
+            breaker.onFailure(duration);
+        }
+    }
+}
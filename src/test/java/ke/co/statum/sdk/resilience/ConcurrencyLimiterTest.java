@@ -0,0 +1,216 @@
+package ke.co.statum.sdk.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Integer> limits = new ArrayList<>();
+
+    @Test
+    void shouldQueueCallsOverTheLimitAndGrantThemInOrder() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(2).build());
+        limiter.acquireAsync();
+        limiter.acquireAsync();
+
+        CompletableFuture<Void> third = limiter.acquireAsync();
+        CompletableFuture<Void> fourth = limiter.acquireAsync();
+        assertFalse(third.isDone());
+        assertEquals(2, limiter.getQueued());
+
+        limiter.release();
+
+        assertTrue(third.isDone());
+        assertFalse(fourth.isDone());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldGrowAdditively_whileSaturatedAndFast() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(2).maxLimit(3).build());
+
+        for (int i = 0; i < 10; i++) {
+            int permits = limiter.getLimit();
+            for (int j = 0; j < permits; j++) {
+                limiter.acquireAsync();
+            }
+            for (int j = 0; j < permits; j++) {
+                limiter.onSuccess(FAST);
+            }
+        }
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(List.of(2, 3), limits);
+    }
+
+    @Test
+    void shouldNotGrow_whenTheLimitIsNotUsed() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(10).build());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquireAsync();
+            limiter.onSuccess(FAST);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shouldShrinkMultiplicatively_onDroppedCalls() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(10)
+                .minLimit(4)
+                .backoffRatio(0.5)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquireAsync();
+            clock.addAndGet(FAST);
+            limiter.onDropped(FAST);
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(List.of(10, 5, 4), limits);
+    }
+
+    @Test
+    void shouldShrinkOncePerRoundTrip_whenLatencyRises() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(10)
+                .backoffRatio(0.5)
+                .latencyTolerance(2)
+                .build());
+        limiter.acquireAsync();
+        limiter.onSuccess(FAST);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquireAsync();
+            limiter.onSuccess(SLOW);
+        }
+        assertEquals(5, limiter.getLimit());
+
+        clock.addAndGet(FAST);
+        limiter.acquireAsync();
+        limiter.onSuccess(SLOW);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void shouldRelearnTheBaseline_afterEachRttWindow() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+                .initialLimit(10)
+                .backoffRatio(0.5)
+                .rttWindow(2)
+                .build());
+        sample(limiter, FAST);
+        sample(limiter, FAST);
+
+        sample(limiter, SLOW);
+        sample(limiter, SLOW);
+        sample(limiter, SLOW);
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(List.of(10, 5), limits);
+    }
+
+    @Test
+    void release_shouldNotChangeTheLimit() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).build());
+        limiter.acquireAsync();
+        CompletableFuture<Void> waiting = limiter.acquireAsync();
+
+        limiter.release();
+
+        assertTrue(waiting.isDone());
+        assertEquals(1, limiter.getLimit());
+        assertEquals(List.of(1), limits);
+    }
+
+    @Test
+    void cancelledWaiter_shouldBeSkipped() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).build());
+        limiter.acquireAsync();
+        CompletableFuture<Void> cancelled = limiter.acquireAsync();
+        CompletableFuture<Void> next = limiter.acquireAsync();
+        cancelled.cancel(false);
+
+        limiter.release();
+
+        assertTrue(next.isDone());
+        assertFalse(next.isCompletedExceptionally());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void interruptedAcquire_shouldHoldNoPermit() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).build());
+        limiter.acquireAsync();
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, limiter::acquire);
+
+        assertEquals(0, limiter.getQueued());
+        limiter.release();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_shouldHoldNoPermit_whenItTimesOut() throws InterruptedException {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).build());
+        limiter.acquireAsync();
+
+        assertFalse(limiter.tryAcquire(Duration.ofMillis(10).toNanos()));
+
+        assertEquals(0, limiter.getQueued());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void acquireAsyncWithTimeout_shouldFailAndHoldNoPermit_whenItTimesOut() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).build());
+        limiter.acquireAsync();
+
+        CompletableFuture<Void> permit = limiter.acquireAsync(Duration.ofMillis(10).toNanos());
+
+        assertThrows(CompletionException.class, permit::join);
+        assertEquals(0, limiter.getQueued());
+        limiter.release();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void config_shouldRejectInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfig.builder().initialLimit(5).maxLimit(4).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfig.builder().minLimit(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfig.builder().backoffRatio(1).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfig.builder().latencyTolerance(1).build());
+        assertFalse(ConcurrencyLimitConfig.disabled().isEnabled());
+    }
+
+    private void sample(ConcurrencyLimiter limiter, long rttNanos) {
+        clock.addAndGet(rttNanos);
+        limiter.acquireAsync();
+        limiter.onSuccess(rttNanos);
+    }
+
+    private ConcurrencyLimiter limiter(ConcurrencyLimitConfig config) {
+        return new ConcurrencyLimiter("/sms", config, limits::add, clock::get);
+    }
+}
@@ -0,0 +1,57 @@
+package ke.co.statum.sdk.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @Test
+    void backoffNanos_shouldGrowExponentiallyUpToMax_whenJitterDisabled() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(350))
+                .multiplier(2.0)
+                .jitter(0.0)
+                .build();
+
+        assertEquals(Duration.ofMillis(100).toNanos(), policy.backoffNanos(1));
+        assertEquals(Duration.ofMillis(200).toNanos(), policy.backoffNanos(2));
+        assertEquals(Duration.ofMillis(350).toNanos(), policy.backoffNanos(3));
+        assertEquals(Duration.ofMillis(350).toNanos(), policy.backoffNanos(10));
+    }
+
+    @Test
+    void backoffNanos_shouldStayWithinJitterRange() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .jitter(0.5)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.backoffNanos(1);
+            assertTrue(delay >= Duration.ofMillis(50).toNanos());
+            assertTrue(delay <= Duration.ofMillis(100).toNanos());
+        }
+    }
+
+    @Test
+    void defaults_shouldRetryGatewayAndThrottlingStatuses() {
+        RetryPolicy policy = RetryPolicy.defaults();
+
+        assertTrue(policy.isRetryableStatus(429));
+        assertTrue(policy.isRetryableStatus(503));
+        assertFalse(policy.isRetryableStatus(500));
+        assertFalse(policy.isRetryableStatus(422));
+        assertEquals(1, RetryPolicy.none().getMaxAttempts());
+    }
+
+    @Test
+    void builder_shouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().maxAttempts(0).build());
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().jitter(1.5).build());
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().multiplier(0.5).build());
+    }
+}
@@ -0,0 +1,105 @@
+package ke.co.statum.sdk.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void reserve_shouldAllowBurstThenPaceAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 10, 2)
+                .build(clock::get);
+
+        assertEquals(0, limiter.reserve("/sms"));
+        assertEquals(0, limiter.reserve("/sms"));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve("/sms"));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), limiter.reserve("/sms"));
+    }
+
+    @Test
+    void reserve_shouldRefillOverTime() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 10, 1)
+                .build(clock::get);
+
+        assertEquals(0, limiter.reserve("/sms"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter.reserve("/sms"));
+    }
+
+    @Test
+    void reserve_shouldKeepSeparateBudgetPerEndpoint() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("sms", 1, 1)
+                .defaultLimit(1, 1)
+                .build(clock::get);
+
+        assertEquals(0, limiter.reserve("/sms"));
+        assertEquals(0, limiter.reserve("/airtime"));
+        assertEquals(0, limiter.reserve("/account-details"));
+        assertTrue(limiter.reserve("sms") > 0);
+        assertTrue(limiter.reserve("/airtime") > 0);
+    }
+
+    @Test
+    void reserve_shouldNotThrottleEndpointsWithoutLimit() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 1, 1)
+                .build(clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.reserve("/airtime"));
+        }
+    }
+
+    @Test
+    void acquire_shouldReturnTheToken_whenInterruptedWhileWaiting() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 10, 1)
+                .build(clock::get);
+        assertEquals(0, limiter.reserve("/sms"));
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> limiter.acquire("/sms"));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve("/sms"));
+    }
+
+    @Test
+    void tryAcquire_shouldTakeNothing_whenTheWaitExceedsTheTimeout() throws InterruptedException {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 10, 1)
+                .build(clock::get);
+        assertEquals(0, limiter.reserve("/sms"));
+
+        assertFalse(limiter.tryAcquire("/sms", TimeUnit.MILLISECONDS.toNanos(50)));
+        assertFalse(limiter.tryAcquireAsync("/sms", TimeUnit.MILLISECONDS.toNanos(50)).join());
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve("/sms"));
+    }
+
+    @Test
+    void acquireAsync_shouldCompleteAfterWait() {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.builder()
+                .limit("/sms", 100, 1)
+                .build();
+
+        assertTrue(limiter.acquireAsync("/sms").isDone());
+        CompletableFuture<Void> delayed = limiter.acquireAsync("/sms");
+        assertDoesNotThrow(() -> delayed.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void builder_shouldRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketRateLimiter.builder().limit("/sms", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketRateLimiter.builder().limit("/sms", 1, 0));
+    }
+}
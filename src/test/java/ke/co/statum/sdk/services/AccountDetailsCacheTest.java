@@ -0,0 +1,157 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.Organization;
+import ke.co.statum.sdk.model.OrganizationDetails;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountDetailsCacheTest {
+
+    private final AccountService accountService = mock(AccountService.class);
+    private final AtomicLong clock = new AtomicLong();
+    private final AccountDetailsCache cache = AccountDetailsCache.builder(accountService)
+            .ttl(Duration.ofSeconds(30))
+            .refreshAhead(Duration.ofSeconds(10))
+            .nanoClock(clock::get)
+            .build();
+
+    @Test
+    void get_shouldServeCachedEntryWithinTtl() {
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(CompletableFuture.completedFuture(response(500.0)));
+
+        AccountDetailsResponse first = cache.get();
+        advance(Duration.ofSeconds(19));
+
+        assertSame(first, cache.get());
+        verify(accountService, times(1)).getAccountDetailsAsync();
+    }
+
+    @Test
+    void concurrentMisses_shouldShareOneFetch() {
+        CompletableFuture<AccountDetailsResponse> pending = new CompletableFuture<>();
+        when(accountService.getAccountDetailsAsync()).thenReturn(pending);
+
+        CompletableFuture<AccountDetailsResponse> first = cache.getAsync();
+        CompletableFuture<AccountDetailsResponse> second = cache.getAsync();
+        pending.complete(response(500.0));
+
+        assertSame(first.join(), second.join());
+        verify(accountService, times(1)).getAccountDetailsAsync();
+    }
+
+    @Test
+    void refreshAhead_shouldReturnCachedEntryAndRefreshInBackground() {
+        CompletableFuture<AccountDetailsResponse> refresh = new CompletableFuture<>();
+        AccountDetailsResponse original = response(500.0);
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(CompletableFuture.completedFuture(original), refresh);
+        cache.get();
+
+        advance(Duration.ofSeconds(25));
+        assertSame(original, cache.get());
+        assertSame(original, cache.get());
+        verify(accountService, times(2)).getAccountDetailsAsync();
+
+        refresh.complete(response(300.0));
+        assertEquals(OptionalDouble.of(300.0), cache.getCachedBalance());
+    }
+
+    @Test
+    void failedRefresh_shouldKeepServingPreviousEntryUntilExpiry() {
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(CompletableFuture.completedFuture(response(500.0)),
+                        CompletableFuture.failedFuture(new NetworkException("Request failed", new IOException("Connection reset"))));
+        cache.get();
+
+        advance(Duration.ofSeconds(25));
+        assertEquals(OptionalDouble.of(500.0), cache.getCachedBalance());
+
+        advance(Duration.ofSeconds(10));
+        assertThrows(NetworkException.class, cache::get);
+    }
+
+    @Test
+    void getCachedBalance_shouldNotBlockWhenNothingIsCached() {
+        CompletableFuture<AccountDetailsResponse> pending = new CompletableFuture<>();
+        when(accountService.getAccountDetailsAsync()).thenReturn(pending);
+
+        assertEquals(OptionalDouble.empty(), cache.getCachedBalance());
+        pending.complete(response(120.5));
+
+        assertEquals(OptionalDouble.of(120.5), cache.getCachedBalance());
+        verify(accountService, times(1)).getAccountDetailsAsync();
+    }
+
+    @Test
+    void invalidate_shouldForceNextReadToFetch() {
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(CompletableFuture.completedFuture(response(500.0)));
+        cache.get();
+
+        cache.invalidate();
+        cache.get();
+
+        verify(accountService, times(2)).getAccountDetailsAsync();
+    }
+
+    @Test
+    void invalidate_shouldDiscardFetchAlreadyInFlight() {
+        CompletableFuture<AccountDetailsResponse> stale = new CompletableFuture<>();
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(stale, CompletableFuture.completedFuture(response(800.0)));
+        CompletableFuture<AccountDetailsResponse> before = cache.getAsync();
+
+        cache.invalidate();
+        stale.complete(response(500.0));
+
+        assertEquals(500.0, before.join().organization().details().availableBalance());
+        assertEquals(800.0, cache.get().organization().details().availableBalance());
+        assertEquals(OptionalDouble.of(800.0), cache.getCachedBalance());
+        verify(accountService, times(2)).getAccountDetailsAsync();
+    }
+
+    @Test
+    void invalidate_shouldStartFreshFetch_whileOlderOneIsStillInFlight() {
+        CompletableFuture<AccountDetailsResponse> stale = new CompletableFuture<>();
+        when(accountService.getAccountDetailsAsync())
+                .thenReturn(stale, CompletableFuture.completedFuture(response(800.0)));
+        cache.getAsync();
+
+        cache.invalidate();
+        AccountDetailsResponse fresh = cache.get();
+        stale.complete(response(500.0));
+
+        assertEquals(800.0, fresh.organization().details().availableBalance());
+        assertEquals(OptionalDouble.of(800.0), cache.getCachedBalance());
+    }
+
+    @Test
+    void builder_shouldRejectRefreshAheadNotShorterThanTtl() {
+        assertThrows(IllegalArgumentException.class, () -> AccountDetailsCache.builder(accountService)
+                .ttl(Duration.ofSeconds(5))
+                .refreshAhead(Duration.ofSeconds(5))
+                .build());
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private static AccountDetailsResponse response(double balance) {
+        OrganizationDetails details = new OrganizationDetails(balance, "Nairobi", "statum.co.ke",
+                "info@statum.co.ke", "0722000000", "123456");
+        return new AccountDetailsResponse(200, "Success", "req-1", new Organization("My Org", details, List.of()));
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -47,4 +48,15 @@ class AccountServiceTest {
 
         verify(httpClient).get(eq("/account-details"), eq(AccountDetailsResponse.class));
     }
+
+    @Test
+    void getAccountDetailsAsync_shouldReturnFutureFromHttpClient() {
+        AccountDetailsResponse mockResponse = new AccountDetailsResponse(200, "Success", "req-790", null);
+        when(httpClient.getAsync(eq("/account-details"), eq(AccountDetailsResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+
+        AccountDetailsResponse response = accountService.getAccountDetailsAsync().join();
+
+        assertEquals("req-790", response.requestId());
+    }
 }
@@ -1,7 +1,15 @@
 package ke.co.statum.sdk.services;
 
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.exceptions.ValidationException;
 import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.model.AirtimeRequest;
 import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.DisbursementReport;
+import ke.co.statum.sdk.model.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +17,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Map;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,13 +57,12 @@ class AirtimeServiceTest {
         assertEquals("Success", response.description());
         assertEquals("req-123", response.requestId());
 
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<AirtimeRequest> captor = ArgumentCaptor.forClass(AirtimeRequest.class);
         verify(httpClient).post(eq("/airtime"), captor.capture(), eq(ApiResponse.class));
 
-        Map<String, String> capturedRequest = captor.getValue();
-        assertEquals("254712345678", capturedRequest.get("phone_number"));
-        assertEquals("100.00", capturedRequest.get("amount"));
+        AirtimeRequest capturedRequest = captor.getValue();
+        assertEquals("+254712345678", capturedRequest.phoneNumber());
+        assertEquals("100.00", capturedRequest.amount());
     }
 
     @Test
@@ -113,4 +127,166 @@ class AirtimeServiceTest {
         // Test 01 prefix
         assertDoesNotThrow(() -> airtimeService.sendAirtime("0112345678", "100"));
     }
+
+    @Test
+    void sendAirtimeAsync_shouldPropagateFailureFromHttpClient() {
+        NetworkException failure = new NetworkException("Request failed", new java.io.IOException("reset"));
+        when(httpClient.postAsync(eq("/airtime"), any(), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.failedFuture(failure));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> airtimeService.sendAirtimeAsync("254712345678", "100").join());
+
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    void sendAirtimeAsync_shouldValidateAmountBeforeSending() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            airtimeService.sendAirtimeAsync("254712345678", "4");
+        });
+    }
+
+    @Test
+    void sendAirtime_shouldForwardRequestOptions() {
+        ApiResponse mockResponse = new ApiResponse(200, "Success", "req-123");
+        RequestOptions options = RequestOptions.defaults().withIdempotencyKey("payroll-42");
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class), eq(options))).thenReturn(mockResponse);
+
+        ApiResponse response = airtimeService.sendAirtime("254712345678", "100", options);
+
+        assertSame(mockResponse, response);
+    }
+
+    @Test
+    void sendAirtime_shouldSendCentsAsTwoDecimalAmount() {
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class)))
+                .thenReturn(new ApiResponse(200, "Success", "req-123"));
+
+        airtimeService.sendAirtime("0712345678", 10_050L);
+
+        ArgumentCaptor<AirtimeRequest> captor = ArgumentCaptor.forClass(AirtimeRequest.class);
+        verify(httpClient).post(eq("/airtime"), captor.capture(), eq(ApiResponse.class));
+        assertEquals(new AirtimeRequest("+254712345678", "100.50"), captor.getValue());
+    }
+
+    @Test
+    void sendAirtime_shouldCheckCentsBoundsExactly() {
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class)))
+                .thenReturn(new ApiResponse(200, "Success", "req-123"));
+
+        assertDoesNotThrow(() -> airtimeService.sendAirtime("254712345678", 500L));
+        assertDoesNotThrow(() -> airtimeService.sendAirtime("254712345678", 1_000_000L));
+        IllegalArgumentException low = assertThrows(IllegalArgumentException.class,
+                () -> airtimeService.sendAirtime("254712345678", 499L));
+        assertEquals("Amount must be at least KES 5.00 (got: 4.99)", low.getMessage());
+        IllegalArgumentException high = assertThrows(IllegalArgumentException.class,
+                () -> airtimeService.sendAirtime("254712345678", "10000.01"));
+        assertEquals("Amount cannot exceed KES 10000.00 (got: 10000.01)", high.getMessage());
+    }
+
+    @Test
+    void sendAirtime_shouldRejectAmountsDoubleParsingAccepted() {
+        for (String amount : new String[] { "NaN", "1e3", " 100", "100d", "100.005" }) {
+            assertThrows(IllegalArgumentException.class, () -> airtimeService.sendAirtime("254712345678", amount),
+                    amount);
+        }
+    }
+
+    @Test
+    void disburse_shouldTotalEachOutcomeBucket() {
+        when(httpClient.postAsync(eq("/airtime"), any(AirtimeRequest.class), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "Success", "req-1")))
+                .thenReturn(CompletableFuture.failedFuture(new ValidationException("Validation failed", "{}", null)))
+                .thenReturn(CompletableFuture.failedFuture(new ApiException("API error: 502", 502, "{}")))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "Success", "req-4")));
+        List<AirtimeRequest> payroll = List.of(
+                new AirtimeRequest("0712345671", "100"),
+                new AirtimeRequest("0712345672", "50.50"),
+                new AirtimeRequest("0712345673", "20"),
+                new AirtimeRequest("0712345674", "10.25"));
+        List<BulkResult<AirtimeRequest>> streamed = new CopyOnWriteArrayList<>();
+
+        DisbursementReport report = airtimeService
+                .disburse(payroll, BulkOptions.defaults().withMaxConcurrency(1), streamed::add)
+                .join();
+
+        assertEquals(4, report.recipients());
+        assertEquals(2, report.disbursed());
+        assertEquals(1, report.rejected());
+        assertEquals(1, report.unconfirmed());
+        assertEquals(Money.ofCents(11_025), report.amountDisbursed());
+        assertEquals(Money.ofCents(5_050), report.amountRejected());
+        assertEquals(Money.ofCents(2_000), report.amountUnconfirmed());
+        assertEquals(Money.ofCents(18_075), report.amountRequested());
+        assertFalse(report.isComplete());
+        assertEquals(4, streamed.size());
+        assertEquals("+254712345671", report.results().get(0).request().phoneNumber());
+    }
+
+    @Test
+    void disburse_shouldNotReportRejected_whenResponseBodyLacksSuccessStatus() {
+        when(httpClient.postAsync(eq("/airtime"), any(AirtimeRequest.class), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(0, null, null)));
+        List<AirtimeRequest> payroll = List.of(new AirtimeRequest("0712345671", "100"));
+
+        DisbursementReport report = airtimeService.disburse(payroll, BulkOptions.defaults()).join();
+
+        assertEquals(0, report.rejected());
+        assertEquals(1, report.unconfirmed());
+        assertEquals(Money.ofCents(10_000), report.amountUnconfirmed());
+    }
+
+    @Test
+    void disburse_shouldSendCanonicalAmounts_whenCollectionUnderReportsItsSize() {
+        when(httpClient.postAsync(eq("/airtime"), any(AirtimeRequest.class), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "Success", "req-1")));
+        List<AirtimeRequest> actual = List.of(new AirtimeRequest("0712345671", "100"),
+                new AirtimeRequest("0712345672", "050.5"));
+        AbstractCollection<AirtimeRequest> misreporting = new AbstractCollection<>() {
+            @Override
+            public Iterator<AirtimeRequest> iterator() {
+                return actual.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+
+        DisbursementReport report = airtimeService.disburse(misreporting, BulkOptions.defaults()).join();
+
+        assertEquals(2, report.recipients());
+        assertEquals(Money.ofCents(15_050), report.amountDisbursed());
+        verify(httpClient).postAsync("/airtime", new AirtimeRequest("+254712345671", "100.00"), ApiResponse.class);
+        verify(httpClient).postAsync("/airtime", new AirtimeRequest("+254712345672", "50.50"), ApiResponse.class);
+    }
+
+    @Test
+    void disburse_shouldSendNothing_whenAnyRecipientIsInvalid() {
+        List<AirtimeRequest> payroll = new ArrayList<>();
+        payroll.add(new AirtimeRequest("0712345671", "100"));
+        payroll.add(new AirtimeRequest("123", "100"));
+        payroll.add(new AirtimeRequest("0712345673", "4.99"));
+        payroll.add(null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> airtimeService.disburse(payroll, BulkOptions.defaults()));
+
+        assertTrue(exception.getMessage().startsWith("3 of 4 disbursements are invalid"));
+        assertTrue(exception.getMessage().contains("#1: Invalid phone number format"));
+        assertTrue(exception.getMessage().contains("#2: Amount must be at least"));
+        assertTrue(exception.getMessage().contains("#3: Request cannot be null"));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void disburse_shouldReportEmptyRun() {
+        DisbursementReport report = airtimeService.disburse(List.of(), BulkOptions.defaults()).join();
+
+        assertEquals(0, report.recipients());
+        assertTrue(report.isComplete());
+        assertEquals(Money.ofCents(0), report.amountRequested());
+    }
 }
@@ -0,0 +1,200 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.exceptions.ApiException;
+import ke.co.statum.sdk.exceptions.InsufficientBalanceException;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.exceptions.ValidationException;
+import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.model.AccountDetailsResponse;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.Organization;
+import ke.co.statum.sdk.model.OrganizationDetails;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BalanceLedgerTest {
+
+    private final HttpClientProvider httpClient = mock(HttpClientProvider.class);
+    private final AtomicLong clock = new AtomicLong();
+    private final BalanceLedger ledger = BalanceLedger.builder(new AccountService(httpClient),
+            new AirtimeService(httpClient))
+            .resyncInterval(Duration.ofMinutes(1))
+            .nanoClock(clock::get)
+            .build();
+
+    @Test
+    void sendAirtime_shouldSeedBalanceAndCommitAcceptedSends() {
+        stubBalance(150.0);
+        stubSend(new ApiResponse(200, "Accepted", "req-1"));
+
+        ledger.sendAirtime("254712345678", "100");
+
+        assertEquals(new BigDecimal("50.00"), ledger.getAvailable());
+        assertEquals(new BigDecimal("0.00"), ledger.getReserved());
+    }
+
+    @Test
+    void sendAirtime_shouldFailFastWithoutSending_whenItWouldOverdraw() {
+        stubBalance(150.0);
+        stubSend(new ApiResponse(200, "Accepted", "req-1"));
+        ledger.sendAirtime("254712345678", "100");
+
+        InsufficientBalanceException exception = assertThrows(InsufficientBalanceException.class,
+                () -> ledger.sendAirtime("254712345678", "60"));
+
+        assertEquals(new BigDecimal("60.00"), exception.getRequested());
+        assertEquals(new BigDecimal("50.00"), exception.getAvailable());
+        verify(httpClient, times(1)).post(eq("/airtime"), any(), eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void rejectedSend_shouldReleaseReservation() {
+        stubBalance(150.0);
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenThrow(new ValidationException("Validation failed", "{}", null));
+
+        assertThrows(ValidationException.class, () -> ledger.sendAirtime("254712345678", "100"));
+
+        assertEquals(new BigDecimal("150.00"), ledger.getAvailable());
+    }
+
+    @Test
+    void response_shouldCommitReservation_evenWithoutSuccessStatusInBody() {
+        stubBalance(150.0);
+        stubSend(new ApiResponse(0, null, null));
+
+        ledger.sendAirtime("254712345678", "100");
+
+        assertEquals(new BigDecimal("50.00"), ledger.getAvailable());
+        assertEquals(new BigDecimal("0.00"), ledger.getReserved());
+    }
+
+    @Test
+    void ambiguousFailure_shouldKeepAmountSpentUntilResync() {
+        stubBalance(150.0);
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenThrow(new NetworkException("Request failed", new IOException("timeout")))
+                .thenThrow(new ApiException("API error: 502", 502, "{}"));
+
+        assertThrows(NetworkException.class, () -> ledger.sendAirtime("254712345678", "100"));
+        assertThrows(InsufficientBalanceException.class, () -> ledger.sendAirtime("254712345678", "100"));
+
+        assertEquals(new BigDecimal("50.00"), ledger.getAvailable());
+    }
+
+    @Test
+    void resync_shouldRefreshBalanceOnceIntervalHasPassed() {
+        stubBalance(150.0, 500.0);
+        stubSend(new ApiResponse(200, "Accepted", "req-1"));
+        ledger.sendAirtime("254712345678", "100");
+
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        ledger.sendAirtime("254712345678", "10");
+
+        assertEquals(new BigDecimal("490.00"), ledger.getAvailable());
+        verify(httpClient, times(2)).getAsync("/account-details", AccountDetailsResponse.class);
+    }
+
+    @Test
+    void reservation_shouldSettleOnlyOnce() {
+        stubBalance(150.0);
+
+        BalanceLedger.Reservation reservation = ledger.reserve("100");
+        reservation.release();
+        reservation.commit();
+
+        assertEquals(new BigDecimal("150.00"), ledger.getAvailable());
+        assertEquals(new BigDecimal("0.00"), ledger.getReserved());
+    }
+
+    @Test
+    void resyncDuringRelease_shouldNotOverEstimate() {
+        stubBalance(150.0);
+        BalanceLedger racing = ledgerResyncingOnSettle();
+        BalanceLedger.Reservation reservation = racing.reserve("100");
+
+        reservation.release();
+
+        assertTrue(racing.getAvailable().compareTo(new BigDecimal("150.00")) <= 0);
+        assertEquals(new BigDecimal("0.00"), racing.getReserved());
+    }
+
+    @Test
+    void resyncDuringCommit_shouldNotOverEstimate() {
+        stubBalance(150.0);
+        BalanceLedger racing = ledgerResyncingOnSettle();
+        BalanceLedger.Reservation reservation = racing.reserve("100");
+
+        // The API still reports 150, not yet reflecting the spend.
+        reservation.commit();
+
+        assertEquals(new BigDecimal("50.00"), racing.getAvailable());
+        assertEquals(new BigDecimal("0.00"), racing.getReserved());
+    }
+
+    @Test
+    void reserve_shouldRejectInvalidAmountWithoutFetchingBalance() {
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve("abc"));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void sendAirtimeAsync_shouldSettleWhenFutureCompletes() {
+        stubBalance(150.0);
+        CompletableFuture<ApiResponse> pending = new CompletableFuture<>();
+        when(httpClient.postAsync(eq("/airtime"), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(pending);
+
+        CompletableFuture<ApiResponse> result = ledger.sendAirtimeAsync("254712345678", "100");
+        assertEquals(new BigDecimal("100.00"), ledger.getReserved());
+
+        pending.complete(new ApiResponse(200, "Accepted", "req-1"));
+        result.join();
+        assertEquals(new BigDecimal("0.00"), ledger.getReserved());
+        assertEquals(new BigDecimal("50.00"), ledger.getAvailable());
+    }
+
+    /**
+     * A ledger that re-syncs between the two counter updates of every settle.
+     */
+    private BalanceLedger ledgerResyncingOnSettle() {
+        AtomicReference<BalanceLedger> racing = new AtomicReference<>();
+        racing.set(BalanceLedger.builder(new AccountService(httpClient), new AirtimeService(httpClient))
+                .nanoClock(clock::get)
+                .settleHook(() -> racing.get().resync())
+                .build());
+        return racing.get();
+    }
+
+    private void stubBalance(double first, double... rest) {
+        var stubbing = when(httpClient.getAsync("/account-details", AccountDetailsResponse.class))
+                .thenReturn(CompletableFuture.completedFuture(account(first)));
+        for (double balance : rest) {
+            stubbing = stubbing.thenReturn(CompletableFuture.completedFuture(account(balance)));
+        }
+    }
+
+    private void stubSend(ApiResponse response) {
+        when(httpClient.post(eq("/airtime"), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(response);
+    }
+
+    private static AccountDetailsResponse account(double balance) {
+        OrganizationDetails details = new OrganizationDetails(balance, "Nairobi", "statum.co.ke",
+                "info@statum.co.ke", "0722000000", "123456");
+        return new AccountDetailsResponse(200, "Success", "req-1", new Organization("My Org", details, List.of()));
+    }
+}
@@ -0,0 +1,238 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.config.RequestOptions;
+import ke.co.statum.sdk.exceptions.NetworkException;
+import ke.co.statum.sdk.exceptions.ValidationException;
+import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.model.AirtimeRequest;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.SmsRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private final HttpClientProvider httpClient = mock(HttpClientProvider.class);
+    private final SmsService smsService = new SmsService(httpClient);
+    private final AirtimeService airtimeService = new AirtimeService(httpClient);
+
+    @Test
+    void enqueue_shouldSendAndMarkCompleted() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        List<Long> sent = new CopyOnWriteArrayList<>();
+
+        try (Outbox outbox = builder().listener(new OutboxListener() {
+            @Override
+            public void onSent(long offset, Object request, ApiResponse response) {
+                sent.add(offset);
+            }
+        }).build()) {
+            long sms = outbox.enqueueSms("254712345678", "SENDER", "Hello");
+            long airtime = outbox.enqueueAirtime("254712345678", "100");
+
+            assertEquals(List.of(sms, airtime), sent);
+            assertEquals(0, outbox.getPending());
+        }
+        verify(httpClient).postAsync(eq("/sms"), eq(new SmsRequest("+254712345678", "SENDER", "Hello")),
+                eq(ApiResponse.class), any(RequestOptions.class));
+        verify(httpClient).postAsync(eq("/airtime"), eq(new AirtimeRequest("+254712345678", "100")),
+                eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void reopen_shouldResendPendingWithTheSameIdempotencyKey() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(new CompletableFuture<>());
+        long offset;
+        try (Outbox outbox = builder().build()) {
+            offset = outbox.enqueueSms("254712345678", "SENDER", "Hello");
+            assertEquals(1, outbox.getPending());
+        }
+
+        reset(httpClient);
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        try (Outbox outbox = builder().build()) {
+            assertEquals(0, outbox.getPending());
+            assertNotEquals(offset, outbox.enqueueSms("254712345679", "SENDER", "Next"));
+        }
+
+        ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+        verify(httpClient).postAsync(eq("/sms"), eq(new SmsRequest("+254712345678", "SENDER", "Hello")),
+                eq(ApiResponse.class), options.capture());
+        String id = Files.readString(directory.resolve("outbox.id")).trim();
+        assertEquals(id + "-" + offset, options.getValue().getIdempotencyKey());
+    }
+
+    @Test
+    void reopen_shouldNotResendCompletedRequests() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        try (Outbox outbox = builder().build()) {
+            outbox.enqueueSms("254712345678", "SENDER", "Hello");
+        }
+
+        try (Outbox outbox = builder().build()) {
+            assertEquals(0, outbox.getPending());
+        }
+        verify(httpClient, times(1)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void reopen_shouldResendEveryPendingRequest_whenSegmentSizeShrank() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(new CompletableFuture<>());
+        try (Outbox outbox = builder().segmentSize(8192).build()) {
+            for (int i = 0; i < 50; i++) {
+                outbox.enqueueSms("254712345678", "SENDER", "Message number " + i);
+            }
+        }
+
+        reset(httpClient);
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        try (Outbox outbox = builder().segmentSize(1024).build()) {
+            assertEquals(0, outbox.getPending());
+            outbox.enqueueSms("254712345678", "SENDER", "After reopening");
+        }
+
+        verify(httpClient, times(51)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void rejectedRequest_shouldBeReportedAndNotRetried() {
+        ValidationException rejected = new ValidationException("Validation failed", "{}", null);
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(rejected));
+        List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+
+        try (Outbox outbox = builder().retryDelay(Duration.ZERO).listener(new OutboxListener() {
+            @Override
+            public void onFailed(long offset, Object request, RuntimeException error) {
+                failures.add(error);
+            }
+        }).build()) {
+            outbox.enqueueSms("254712345678", "SENDER", "Hello");
+
+            assertEquals(List.of(rejected), failures);
+            assertEquals(0, outbox.getPending());
+        }
+        verify(httpClient, times(1)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void transientFailure_shouldBeRetried() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(new NetworkException("Request failed", new IOException())))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        CompletableFuture<Long> sent = new CompletableFuture<>();
+
+        try (Outbox outbox = builder().retryDelay(Duration.ofMillis(10)).listener(new OutboxListener() {
+            @Override
+            public void onSent(long offset, Object request, ApiResponse response) {
+                sent.complete(offset);
+            }
+        }).build()) {
+            long offset = outbox.enqueueSms("254712345678", "SENDER", "Hello");
+
+            assertEquals(offset, sent.get(5, TimeUnit.SECONDS));
+        }
+        verify(httpClient, times(2)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+    }
+
+    @Test
+    void transientFailure_shouldBeDeadLettered_afterMaxAttempts() throws Exception {
+        NetworkException failure = new NetworkException("Request failed", new IOException());
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(failure));
+        CompletableFuture<RuntimeException> deadLetter = new CompletableFuture<>();
+
+        try (Outbox outbox = builder().maxAttempts(3).retryDelay(Duration.ofMillis(1))
+                .listener(new OutboxListener() {
+                    @Override
+                    public void onDeadLetter(long offset, Object request, RuntimeException error) {
+                        deadLetter.complete(error);
+                    }
+                }).build()) {
+            outbox.enqueueSms("254712345678", "SENDER", "Hello");
+
+            assertSame(failure, deadLetter.get(5, TimeUnit.SECONDS));
+            assertEquals(0, outbox.getPending());
+        }
+        verify(httpClient, times(3)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+
+        reset(httpClient);
+        try (Outbox outbox = builder().build()) {
+            assertEquals(0, outbox.getPending());
+        }
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void invalidRequest_shouldThrowWithoutPersisting() {
+        try (Outbox outbox = builder().build()) {
+            assertThrows(IllegalArgumentException.class, () -> outbox.enqueueAirtime("254712345678", "1"));
+            assertEquals(0, outbox.getPending());
+        }
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void maxConcurrency_shouldBoundRequestsInFlight() {
+        CompletableFuture<ApiResponse> hold = new CompletableFuture<>();
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(hold)
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-2")));
+
+        try (Outbox outbox = builder().maxConcurrency(1).build()) {
+            outbox.enqueueSms("254712345671", "SENDER", "Hi");
+            outbox.enqueueSms("254712345672", "SENDER", "Hi");
+            verify(httpClient, times(1)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+
+            hold.complete(new ApiResponse(200, "OK", "req-1"));
+
+            verify(httpClient, times(2)).postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class));
+            assertEquals(0, outbox.getPending());
+        }
+    }
+
+    @Test
+    void fullySentSegments_shouldBeDeleted() throws Exception {
+        when(httpClient.postAsync(any(), any(), eq(ApiResponse.class), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+
+        try (Outbox outbox = builder().segmentSize(1024).build()) {
+            for (int i = 0; i < 50; i++) {
+                outbox.enqueueSms("254712345678", "SENDER", "Message number " + i);
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".log")).count());
+        }
+    }
+
+    private Outbox.Builder builder() {
+        return Outbox.builder(directory, smsService, airtimeService);
+    }
+}
@@ -0,0 +1,98 @@
+package ke.co.statum.sdk.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneNumbersTest {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("^(?:\\+254|254|0)(7|1)[0-9]{8}$");
+
+    @Test
+    void isValid_shouldAcceptSupportedForms() {
+        for (String number : new String[] { "+254712345678", "254712345678", "0712345678", "0112345678",
+                "+254112345678" }) {
+            assertTrue(PhoneNumbers.isValid(number), number);
+        }
+    }
+
+    @Test
+    void isValid_shouldRejectEverythingElse() {
+        for (String number : new String[] { "", "712345678", "123456", "+254612345678", "25471234567",
+                "07123456789", "+25471234567a", "0712 45678", "+354712345678", "0712345678\n", "+2547123456789",
+                "\u0660712345678" }) {
+            assertFalse(PhoneNumbers.isValid(number), number);
+        }
+    }
+
+    @Test
+    void isValid_shouldAgreeWithThePatternItReplaces() {
+        char[] alphabet = { '0', '1', '2', '4', '5', '7', '+', 'x' };
+        char[] buffer = new char[13];
+        for (int length : new int[] { 10, 12, 13 }) {
+            for (int seed = 0; seed < 20_000; seed++) {
+                // Start from a valid-looking number and corrupt a few positions.
+                String base = length == 13 ? "+254712345678" : length == 12 ? "254712345678" : "0712345678";
+                base.getChars(0, length, buffer, 0);
+                int state = seed;
+                for (int k = 0; k < 2; k++) {
+                    buffer[(state >>> 3) % length] = alphabet[state & 7];
+                    state = state * 1103515245 + 12345 & 0x7fffffff;
+                }
+                String number = new String(buffer, 0, length);
+                assertEquals(LEGACY_PATTERN.matcher(number).matches(), PhoneNumbers.isValid(number), number);
+            }
+        }
+    }
+
+    @Test
+    void isValid_shouldRejectNull() {
+        assertFalse(PhoneNumbers.isValid(null));
+    }
+
+    @Test
+    void normalize_shouldReturnE164() {
+        assertEquals("+254712345678", PhoneNumbers.normalize("254712345678"));
+        assertEquals("+254712345678", PhoneNumbers.normalize("0712345678"));
+        assertEquals("+254112345678", PhoneNumbers.normalize("0112345678"));
+    }
+
+    @Test
+    void normalize_shouldReturnE164InputAsIs() {
+        String number = "+254712345678";
+        assertSame(number, PhoneNumbers.normalize(number));
+    }
+
+    @Test
+    void normalize_shouldThrow_whenInvalid() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PhoneNumbers.normalize("123456"));
+        assertTrue(exception.getMessage().contains("Invalid phone number format"));
+        assertThrows(NullPointerException.class, () -> PhoneNumbers.normalize(null));
+    }
+
+    @Test
+    void validate_shouldFillResultsAndCountValidEntries() {
+        String[] numbers = { "0712345678", "123", null, "+254112345678" };
+        boolean[] valid = new boolean[numbers.length];
+
+        assertEquals(2, PhoneNumbers.validate(numbers, valid));
+        assertArrayEquals(new boolean[] { true, false, false, true }, valid);
+    }
+
+    @Test
+    void normalizeArray_shouldWorkInPlace() {
+        String[] numbers = { "0712345678", "123", "254112345678" };
+
+        assertEquals(2, PhoneNumbers.normalize(numbers, numbers));
+        assertArrayEquals(new String[] { "+254712345678", null, "+254112345678" }, numbers);
+    }
+
+    @Test
+    void bulk_shouldRejectMismatchedLengths() {
+        assertThrows(IllegalArgumentException.class, () -> PhoneNumbers.validate(new String[2], new boolean[1]));
+        assertThrows(IllegalArgumentException.class, () -> PhoneNumbers.normalize(new String[2], new String[3]));
+    }
+}
@@ -0,0 +1,229 @@
+package ke.co.statum.sdk.services;
+
+import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.SmsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SendPublisherTest {
+
+    private final HttpClientProvider httpClient = mock(HttpClientProvider.class);
+    private final SmsService smsService = new SmsService(httpClient);
+
+    @Test
+    void sendStream_shouldPublishOneResultPerRequestAndComplete() {
+        when(httpClient.postAsync(eq("/sms"), any(SmsRequest.class), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        Source source = new Source(List.of(sms("254712345671"), sms("123"), sms("254712345673")));
+        Sink sink = new Sink(Long.MAX_VALUE);
+
+        smsService.sendStream(source, BulkOptions.defaults()).subscribe(sink);
+
+        assertEquals(3, sink.results.size());
+        assertTrue(sink.results.get(0).isSuccess());
+        assertInstanceOf(IllegalArgumentException.class, sink.results.get(1).error());
+        assertEquals(2, sink.results.get(2).index());
+        assertTrue(sink.completed);
+    }
+
+    @Test
+    void sendStream_shouldRequestNoMoreThanMaxConcurrency() {
+        List<CompletableFuture<ApiResponse>> pending = new ArrayList<>();
+        when(httpClient.postAsync(eq("/sms"), any(SmsRequest.class), eq(ApiResponse.class))).thenAnswer(invocation -> {
+            CompletableFuture<ApiResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+        Source source = new Source(List.of(sms("254712345671"), sms("254712345672"), sms("254712345673"),
+                sms("254712345674")));
+        Sink sink = new Sink(Long.MAX_VALUE);
+
+        smsService.sendStream(source, BulkOptions.defaults().withMaxConcurrency(2)).subscribe(sink);
+
+        assertEquals(2, source.requested.get());
+        assertEquals(2, pending.size());
+
+        pending.get(0).complete(new ApiResponse(200, "OK", "req-0"));
+        assertEquals(3, source.requested.get());
+        assertEquals(1, sink.results.size());
+
+        pending.get(1).complete(new ApiResponse(200, "OK", "req-1"));
+        pending.get(2).complete(new ApiResponse(200, "OK", "req-2"));
+        pending.get(3).complete(new ApiResponse(200, "OK", "req-3"));
+        assertEquals(4, sink.results.size());
+        assertTrue(sink.completed);
+    }
+
+    @Test
+    void sendStream_shouldNotOutrunDownstreamDemand() {
+        when(httpClient.postAsync(eq("/sms"), any(SmsRequest.class), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "OK", "req-1")));
+        Source source = new Source(List.of(sms("254712345671"), sms("254712345672"), sms("254712345673")));
+        Sink sink = new Sink(1);
+
+        smsService.sendStream(source, BulkOptions.defaults()).subscribe(sink);
+
+        assertEquals(1, source.requested.get());
+        assertEquals(1, sink.results.size());
+
+        sink.subscription.request(2);
+        assertEquals(3, sink.results.size());
+        assertTrue(sink.completed);
+    }
+
+    @Test
+    void sendStream_shouldPassUpstreamErrorOnAfterInFlightResults() {
+        CompletableFuture<ApiResponse> response = new CompletableFuture<>();
+        when(httpClient.postAsync(eq("/sms"), any(SmsRequest.class), eq(ApiResponse.class))).thenReturn(response);
+        IllegalStateException failure = new IllegalStateException("source failed");
+        Source source = new Source(List.of(sms("254712345671")), false);
+        Sink sink = new Sink(Long.MAX_VALUE);
+
+        smsService.sendStream(source, BulkOptions.defaults()).subscribe(sink);
+        source.subscriber.onError(failure);
+        assertNull(sink.error);
+
+        response.complete(new ApiResponse(200, "OK", "req-1"));
+        assertEquals(1, sink.results.size());
+        assertSame(failure, sink.error);
+    }
+
+    @Test
+    void cancel_shouldCancelUpstream() {
+        when(httpClient.postAsync(eq("/sms"), any(SmsRequest.class), eq(ApiResponse.class)))
+                .thenReturn(new CompletableFuture<>());
+        Source source = new Source(List.of(sms("254712345671"), sms("254712345672")));
+        Sink sink = new Sink(1);
+
+        smsService.sendStream(source, BulkOptions.defaults()).subscribe(sink);
+        sink.subscription.cancel();
+
+        assertTrue(source.cancelled);
+        assertFalse(sink.completed);
+    }
+
+    @Test
+    void nonPositiveRequest_shouldSignalError() {
+        Source source = new Source(List.of(sms("254712345671")));
+        Sink sink = new Sink(0);
+
+        smsService.sendStream(source, BulkOptions.defaults()).subscribe(sink);
+        sink.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, sink.error);
+        assertTrue(source.cancelled);
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void secondSubscriber_shouldBeRejected() {
+        Flow.Publisher<BulkResult<SmsRequest>> publisher = smsService.sendStream(new Source(List.of()),
+                BulkOptions.defaults());
+        publisher.subscribe(new Sink(1));
+        Sink second = new Sink(1);
+
+        publisher.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private static SmsRequest sms(String phoneNumber) {
+        return new SmsRequest(phoneNumber, "SENDER", "Hi");
+    }
+
+    /** Emits its items synchronously on request, then completes unless told to stay open. */
+    private static final class Source implements Flow.Publisher<SmsRequest> {
+        private final List<SmsRequest> items;
+        private final boolean complete;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private Flow.Subscriber<? super SmsRequest> subscriber;
+        private int next;
+        private boolean done;
+
+        Source(List<SmsRequest> items) {
+            this(items, true);
+        }
+
+        Source(List<SmsRequest> items, boolean complete) {
+            this.items = items;
+            this.complete = complete;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super SmsRequest> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    for (long i = 0; i < n && next < items.size() && !cancelled; i++) {
+                        subscriber.onNext(items.get(next++));
+                    }
+                    completeIfDrained();
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+            completeIfDrained();
+        }
+
+        private void completeIfDrained() {
+            if (complete && !done && !cancelled && next == items.size()) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    private static final class Sink implements Flow.Subscriber<BulkResult<SmsRequest>> {
+        private final long initialDemand;
+        private final List<BulkResult<SmsRequest>> results = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        Sink(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(BulkResult<SmsRequest> item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package ke.co.statum.sdk.services;
 
 import ke.co.statum.sdk.http.HttpClientProvider;
+import ke.co.statum.sdk.exceptions.ApiException;
 import ke.co.statum.sdk.model.ApiResponse;
+import ke.co.statum.sdk.model.BulkResult;
+import ke.co.statum.sdk.model.SmsRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +12,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Map;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,14 +51,13 @@ class SmsServiceTest {
         assertEquals(200, response.statusCode());
         assertEquals("Submitted", response.description());
 
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<SmsRequest> captor = ArgumentCaptor.forClass(SmsRequest.class);
         verify(httpClient).post(eq("/sms"), captor.capture(), eq(ApiResponse.class));
 
-        Map<String, String> capturedRequest = captor.getValue();
-        assertEquals("254712345678", capturedRequest.get("phone_number"));
-        assertEquals("STATUM", capturedRequest.get("sender_id"));
-        assertEquals("Hello World", capturedRequest.get("message"));
+        SmsRequest capturedRequest = captor.getValue();
+        assertEquals("+254712345678", capturedRequest.phoneNumber());
+        assertEquals("STATUM", capturedRequest.senderId());
+        assertEquals("Hello World", capturedRequest.message());
     }
 
     @Test
@@ -107,4 +116,112 @@ class SmsServiceTest {
         // Test 0 format
         assertDoesNotThrow(() -> smsService.sendSms("0712345678", "SENDER", "Test"));
     }
+
+    @Test
+    void sendSmsAsync_shouldReturnFutureFromHttpClient() {
+        ApiResponse mockResponse = new ApiResponse(200, "Submitted", "req-456");
+        when(httpClient.postAsync(eq("/sms"), any(), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+
+        ApiResponse response = smsService.sendSmsAsync("254712345678", "STATUM", "Hello World").join();
+
+        assertEquals("req-456", response.requestId());
+    }
+
+    @Test
+    void sendSmsAsync_shouldValidateBeforeSending() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            smsService.sendSmsAsync("123456", "SENDER", "Message");
+        });
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void sendBulk_shouldCapInFlightRequests() {
+        List<CompletableFuture<ApiResponse>> pending = new ArrayList<>();
+        when(httpClient.postAsync(eq("/sms"), any(), eq(ApiResponse.class))).thenAnswer(invocation -> {
+            CompletableFuture<ApiResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        List<SmsRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(new SmsRequest("254712345678", "STATUM", "Message " + i));
+        }
+
+        CompletableFuture<List<BulkResult<SmsRequest>>> batch = smsService.sendBulk(requests,
+                BulkOptions.defaults().withMaxConcurrency(2));
+
+        assertEquals(2, pending.size());
+        pending.get(0).complete(new ApiResponse(200, "Submitted", "req-0"));
+        assertEquals(3, pending.size());
+        pending.get(1).complete(new ApiResponse(200, "Submitted", "req-1"));
+        pending.get(2).complete(new ApiResponse(200, "Submitted", "req-2"));
+        pending.get(3).complete(new ApiResponse(200, "Submitted", "req-3"));
+        assertFalse(batch.isDone());
+        pending.get(4).complete(new ApiResponse(200, "Submitted", "req-4"));
+
+        List<BulkResult<SmsRequest>> results = batch.join();
+        assertEquals(5, results.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, results.get(i).index());
+            assertEquals("req-" + i, results.get(i).response().requestId());
+        }
+    }
+
+    @Test
+    void sendBulk_shouldReportPerRecipientFailuresWithoutAbortingBatch() {
+        ApiException apiError = new ApiException("API error: 500", 500, "{}");
+        when(httpClient.postAsync(eq("/sms"), any(), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "Submitted", "req-1")))
+                .thenReturn(CompletableFuture.failedFuture(apiError));
+
+        List<SmsRequest> requests = List.of(
+                new SmsRequest("254712345678", "STATUM", "First"),
+                new SmsRequest("123", "STATUM", "Invalid number"),
+                new SmsRequest("0712345678", "STATUM", "Third"));
+        List<BulkResult<SmsRequest>> streamed = new CopyOnWriteArrayList<>();
+
+        List<BulkResult<SmsRequest>> results = smsService
+                .sendBulk(requests, BulkOptions.defaults(), streamed::add)
+                .join();
+
+        assertEquals(3, streamed.size());
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(IllegalArgumentException.class, results.get(1).error());
+        assertSame(apiError, results.get(2).error());
+        assertNull(results.get(2).response());
+    }
+
+    @Test
+    void sendBulk_shouldCompleteImmediately_whenNoRequests() {
+        assertTrue(smsService.sendBulk(List.of(), BulkOptions.defaults()).join().isEmpty());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void sendBulk_shouldComplete_whenCollectionOverReportsItsSize() {
+        when(httpClient.postAsync(eq("/sms"), any(), eq(ApiResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new ApiResponse(200, "Submitted", "req-1")));
+        List<SmsRequest> actual = List.of(new SmsRequest("254712345678", "STATUM", "First"),
+                new SmsRequest("254712345679", "STATUM", "Second"));
+        AbstractCollection<SmsRequest> misreporting = new AbstractCollection<>() {
+            @Override
+            public Iterator<SmsRequest> iterator() {
+                return actual.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+
+        List<BulkResult<SmsRequest>> results = smsService.sendBulk(misreporting, BulkOptions.defaults())
+                .orTimeout(5, TimeUnit.SECONDS)
+                .join();
+
+        assertEquals(2, results.size());
+    }
 }